@@ -0,0 +1,128 @@
+package com.taskmanagement.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Wall-clock cost of a scripted `task-list --json`, from JVM launch to exit, against a local stub of the API
+// One launch per sample: an average over a few 10 s iterations left too few launches to tell runs apart
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@State(Scope.Benchmark)
+public class CliStartupBenchmark {
+
+    private static final int TASK_COUNT = 50;
+
+    // cached: answered from a warm local cache; refresh: empty delta sync first; no-cache: one page from the server
+    @Param({"cached", "refresh", "no-cache"})
+    private String mode;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer server;
+    private Path home;
+    private List<String> command;
+
+    @Setup
+    public void setUp() throws Exception {
+        String classpath = System.getProperty("cli.classpath");
+        if (classpath == null) {
+            throw new IllegalStateException("cli.classpath is not set; run through ./gradlew :benchmarks:jmh");
+        }
+
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Map<String, Object> task = new HashMap<>();
+            task.put("id", UUID.randomUUID().toString());
+            task.put("title", "Benchmark task " + i);
+            task.put("assignedToName", "Bench User");
+            task.put("statusName", "IN_PROGRESS");
+            task.put("priorityName", "HIGH");
+            task.put("version", 0);
+            tasks.add(task);
+        }
+        byte[] firstSync = objectMapper.writeValueAsBytes(
+                Map.of("upserts", tasks, "deleted", List.of(), "watermark", "w1", "more", false));
+        byte[] emptyDelta = objectMapper.writeValueAsBytes(
+                Map.of("upserts", List.of(), "deleted", List.of(), "watermark", "w1", "more", false));
+        byte[] page = objectMapper.writeValueAsBytes(Map.of("tasks", tasks));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/tasks", exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            if (exchange.getRequestURI().getPath().equals("/api/tasks/changes")) {
+                respond(exchange, query != null && query.contains("since=") ? emptyDelta : firstSync);
+            } else {
+                respond(exchange, page);
+            }
+        });
+        server.start();
+
+        home = Files.createTempDirectory("cli-startup");
+        Files.writeString(home.resolve(".taskmanagement"),
+                "token=benchmark\nuserName=Bench User\nuserEmail=bench@example.com\n");
+
+        command = new ArrayList<>(List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Duser.home=" + home,
+                "-Dcli.api.base-url=http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/api",
+                "-cp", classpath,
+                "com.taskmanagement.cli.TaskManagementCLI", "task-list", "--json"));
+        // Leaves a synced cache behind, so the cached and refresh modes measure the steady state
+        taskList();
+
+        if (!mode.equals("cached")) {
+            command.add("--" + mode);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> files = Files.walk(home)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public int taskList() throws Exception {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("task-list exited with " + exitCode);
+        }
+        return exitCode;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
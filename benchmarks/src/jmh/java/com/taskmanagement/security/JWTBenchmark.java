@@ -0,0 +1,73 @@
+package com.taskmanagement.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class JWTBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecretbenchmarksecret";
+
+    private JWTTokenProvider tokenProvider;
+    private JWTTokenProvider uncachedTokenProvider;
+    private JWTFilter filter;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JWTTokenProvider(SECRET, 86400, 10000, new SimpleMeterRegistry());
+        // A zero-sized verified-token cache forces full verification on every call
+        uncachedTokenProvider = new JWTTokenProvider(SECRET, 86400, 0, new SimpleMeterRegistry());
+        filter = new JWTFilter(tokenProvider);
+        userId = UUID.randomUUID();
+        token = tokenProvider.createToken(userId, "bench@example.com",
+                List.of(new SimpleGrantedAuthority("ROLE_DEVELOPER")));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(userId, "bench@example.com",
+                List.of(new SimpleGrantedAuthority("ROLE_DEVELOPER")));
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateUncached() {
+        return uncachedTokenProvider.authenticate(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return tokenProvider.authenticate(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Authentication filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskPageDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    // Default and maximum page sizes of GET /api/tasks
+    @Param({"50", "200"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private TaskPageDTO page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the server's ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setId(UUID.randomUUID());
+            dto.setTitle("Task " + i);
+            dto.setDescription("Description for task " + i);
+            dto.setCreatedById(UUID.randomUUID());
+            dto.setAssignedToId(UUID.randomUUID());
+            dto.setAssignedToName("Benchmark User");
+            dto.setStatusId(UUID.randomUUID());
+            dto.setStatusName("IN_PROGRESS");
+            dto.setPriorityId(UUID.randomUUID());
+            dto.setPriorityName("HIGH");
+            dto.setStoryPoints(3);
+            dto.setEstimatedHours(5);
+            dto.setDueDate(ZonedDateTime.now());
+            tasks.add(dto);
+        }
+        page = new TaskPageDTO(tasks, "cursor");
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.model.*;
+import com.taskmanagement.repository.TaskView;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    private TaskService taskService;
+    private Task task;
+    private TaskView taskView;
+
+    @Setup
+    public void setUp() {
+        // Conversion does not touch the repositories, so they can be left out
+        taskService = new TaskService(null, null, null, null, null, null, null, null, false, false);
+
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("DEVELOPER");
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("Benchmark User");
+        user.setRole(role);
+
+        TaskStatus status = new TaskStatus();
+        status.setId(UUID.randomUUID());
+        status.setName("IN_PROGRESS");
+
+        TaskPriority priority = new TaskPriority();
+        priority.setId(UUID.randomUUID());
+        priority.setName("HIGH");
+
+        Epic epic = new Epic();
+        epic.setId(UUID.randomUUID());
+        epic.setName("Benchmark epic");
+
+        Sprint sprint = new Sprint();
+        sprint.setId(UUID.randomUUID());
+        sprint.setName("Sprint 1");
+
+        task = new Task();
+        task.setId(TimeOrderedUuid.generate());
+        task.setTitle("Benchmark task");
+        task.setDescription("A task used to measure DTO conversion");
+        task.setCreatedBy(user);
+        task.setAssignedTo(user);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setEpic(epic);
+        task.setSprint(sprint);
+        task.setStoryPoints(5);
+        task.setEstimatedHours(8);
+        task.setDueDate(ZonedDateTime.now().plusDays(7));
+        task.setCreatedAt(ZonedDateTime.now());
+        task.setUpdatedAt(ZonedDateTime.now());
+
+        taskView = new TaskView(task.getId(), task.getTitle(), task.getDescription(), 5, 8,
+                task.getDueDate(), null, task.getCreatedAt(), task.getUpdatedAt(), 0L, 1L,
+                user.getId(), user.getId(), user.getName(), status.getId(), status.getName(),
+                priority.getId(), priority.getName(), epic.getId(), epic.getName(), sprint.getId(), sprint.getName());
+    }
+
+    @Benchmark
+    public TaskDTO convertEntityToDTO() {
+        return taskService.convertToDTO(task);
+    }
+
+    @Benchmark
+    public TaskDTO convertViewToDTO() {
+        return taskService.convertToDTO(taskView);
+    }
+}
@@ -1,24 +1,36 @@
 package com.taskmanagement.cli;
 
+import com.taskmanagement.cli.command.OneShotCommands;
 import com.taskmanagement.cli.command.WelcomeCommand;
+import com.taskmanagement.cli.config.NativeRuntimeHints;
 import org.fusesource.jansi.AnsiConsole;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.event.EventListener;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class TaskManagementCLI {
 
     @Autowired
     private WelcomeCommand welcomeCommand;
 
     public static void main(String[] args) {
+        // Scripted commands skip the shell, terminal setup and welcome banner entirely
+        if (OneShotCommands.handles(args)) {
+            System.exit(OneShotCommands.run(args));
+        }
+
         // Important: Set these properties before anything else
         System.setProperty("spring.shell.interactive.enabled", "true");
-        System.setProperty("org.jline.terminal.dumb", "false");
+        // An explicit -Dorg.jline.terminal.dumb=true is kept, so the CDS training run can drive the shell without a TTY
+        if (System.getProperty("org.jline.terminal.dumb") == null) {
+            System.setProperty("org.jline.terminal.dumb", "false");
+        }
         System.setProperty("jansi.passthrough", "true");
 
         // Install Jansi for better terminal color handling
@@ -4,6 +4,7 @@ import com.taskmanagement.cli.config.UserSession;
 import com.taskmanagement.cli.service.APIService;
 import com.taskmanagement.cli.service.OAuthService;
 import com.taskmanagement.cli.service.ShellService;
+import com.taskmanagement.cli.service.TaskCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
@@ -29,6 +30,9 @@ public class LoginShellCommand {
     @Autowired
     private ShellService shellService;
 
+    @Autowired
+    private TaskCache taskCache;
+
     @ShellMethod(key = "signin", value = "Authenticate with Google")
     public void login(@ShellOption(value = {"--headless"}, help = "Run in headless mode (provide token manually)", defaultValue = "false") boolean headless) {
         try {
@@ -72,6 +76,9 @@ public class LoginShellCommand {
                 String name = (String) response.get("name");
                 String email = (String) response.get("email");
 
+                // The cache may hold another account's tasks; its log stays for when that account signs in again
+                taskCache.unload();
+
                 // Save token to session
                 userSession.setToken(token);
                 userSession.setUserName(name);
@@ -91,6 +98,7 @@ public class LoginShellCommand {
     public void logout() {
         if (userSession.isAuthenticated()) {
             String name = userSession.getUserName();
+            taskCache.clear();
             userSession.clearSession();
             shellService.printSuccess("Logged out successfully. Goodbye, " + name + "!");
         } else {
@@ -0,0 +1,191 @@
+package com.taskmanagement.cli.command;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.cli.config.UserSession;
+import com.taskmanagement.cli.service.ApiException;
+import com.taskmanagement.cli.service.ApiReader;
+import com.taskmanagement.cli.service.TaskCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.aot.AotDetector;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.aot.AotApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Scripted invocations such as `taskcli task-list --json` run here instead of in Spring Shell: the context holds only
+// the beans these commands use, with no auto-configuration, terminal, banner, welcome message or WebClient
+@Command(name = "taskcli", mixinStandardHelpOptions = true)
+public class OneShotCommands {
+
+    private static final Set<String> COMMANDS = Set.of("task-list", "task-get");
+
+    private static final Class<?>[] BEANS = {UserSession.class, ApiReader.class, TaskCache.class, OneShotCommands.class};
+
+    private static final String[] TASK_FIELDS = {"id", "title", "assignedToName", "statusName", "priorityName"};
+
+    @Autowired
+    private UserSession userSession;
+
+    @Autowired
+    private ApiReader apiReader;
+
+    @Autowired
+    private TaskCache taskCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PrintStream out = System.out;
+
+    public static boolean handles(String[] args) {
+        return args.length > 0 && COMMANDS.contains(args[0]);
+    }
+
+    public static int run(String[] args) {
+        SpringApplication app = new SpringApplication(BEANS);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        app.setBannerMode(Banner.Mode.OFF);
+        app.setLogStartupInfo(false);
+        app.setLazyInitialization(true);
+        app.setRegisterShutdownHook(false);
+
+        // AOT builds (the native image) ignore primary sources and only generate bean definitions for the
+        // shell application, so register this context's few beans directly
+        if (AotDetector.useGeneratedArtifacts()) {
+            AotApplicationContextInitializer<GenericApplicationContext> initializer = context -> {
+                AnnotationConfigUtils.registerAnnotationConfigProcessors(context);
+                for (Class<?> bean : BEANS) {
+                    context.registerBean(bean);
+                }
+            };
+            app.addInitializers(initializer);
+        }
+
+        try (ConfigurableApplicationContext context = app.run()) {
+            return new CommandLine(context.getBean(OneShotCommands.class))
+                    .setExecutionExceptionHandler(OneShotCommands::handleException)
+                    .execute(args);
+        }
+    }
+
+    // An unreachable or failing server is an expected outcome for a script: one line on stderr, not a stack trace
+    private static int handleException(Exception e, CommandLine commandLine, CommandLine.ParseResult parseResult) throws Exception {
+        if (!(e instanceof ApiException)) {
+            throw e;
+        }
+        System.err.println("Error: " + e.getMessage());
+        return 1;
+    }
+
+    @Command(name = "task-list", description = "List tasks", mixinStandardHelpOptions = true)
+    public int listTasks(
+            @Option(names = {"-l", "--limit"}, defaultValue = "50", description = "Maximum number of tasks to show") int limit,
+            @Option(names = "--json", description = "Print the tasks as a JSON array") boolean json,
+            @Option(names = "--no-cache", description = "Read from the server instead of the local cache") boolean noCache,
+            @Option(names = "--refresh", description = "Bring the local cache up to date before reading it") boolean refresh
+    ) throws Exception {
+        if (!isUserLoggedIn()) {
+            return 1;
+        }
+
+        List<Map<String, Object>> tasks;
+        if (noCache) {
+            Map<String, Object> page = apiReader.get("/tasks?limit=" + limit);
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> fetched = (List<Map<String, Object>>) page.get("tasks");
+            tasks = fetched != null ? fetched : List.of();
+        } else {
+            prepareCache(refresh);
+            tasks = taskCache.getTasks();
+        }
+        tasks = tasks.subList(0, Math.min(limit, tasks.size()));
+
+        if (json) {
+            // writeValue(OutputStream) would close System.out
+            out.println(objectMapper.writeValueAsString(tasks));
+        } else {
+            for (Map<String, Object> task : tasks) {
+                printTask(task);
+            }
+        }
+        out.flush();
+        return 0;
+    }
+
+    @Command(name = "task-get", description = "Get task details", mixinStandardHelpOptions = true)
+    public int getTask(
+            @Parameters(paramLabel = "TASK_ID", description = "Task ID") String taskId,
+            @Option(names = "--json", description = "Print the task as a JSON object") boolean json,
+            @Option(names = "--no-cache", description = "Read from the server instead of the local cache") boolean noCache,
+            @Option(names = "--refresh", description = "Bring the local cache up to date before reading it") boolean refresh
+    ) throws Exception {
+        if (!isUserLoggedIn()) {
+            return 1;
+        }
+
+        Map<String, Object> task = null;
+        if (!noCache) {
+            prepareCache(refresh);
+            task = taskCache.getTask(taskId);
+        }
+        if (task == null) {
+            task = apiReader.get("/tasks/" + taskId);
+        }
+
+        if (json) {
+            out.println(objectMapper.writeValueAsString(task));
+        } else {
+            printTask(task);
+        }
+        out.flush();
+        return 0;
+    }
+
+    // Answer from the cache as it stands, which the interactive shell keeps current; only a missing cache or
+    // --refresh costs a round trip to the server
+    private void prepareCache(boolean refresh) {
+        if (refresh || !taskCache.isSynced()) {
+            try {
+                taskCache.sync();
+            } catch (Exception e) {
+                if (!taskCache.isSynced()) {
+                    throw e;
+                }
+                taskCache.warnRefreshFailed(e);
+            }
+        }
+        for (String warning : taskCache.drainWarnings()) {
+            System.err.println("Warning: " + warning);
+        }
+    }
+
+    // Tab-separated so the output can be piped into cut, awk and friends
+    private void printTask(Map<String, Object> task) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < TASK_FIELDS.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            line.append(task.get(TASK_FIELDS[i]));
+        }
+        out.println(line);
+    }
+
+    private boolean isUserLoggedIn() {
+        if (!userSession.isAuthenticated()) {
+            System.err.println("You are not logged in. Please run 'signin' in the interactive shell first");
+            return false;
+        }
+        return true;
+    }
+}
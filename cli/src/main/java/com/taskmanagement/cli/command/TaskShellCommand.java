@@ -3,15 +3,19 @@ package com.taskmanagement.cli.command;
 import com.taskmanagement.cli.config.UserSession;
 import com.taskmanagement.cli.service.APIService;
 import com.taskmanagement.cli.service.ShellService;
+import com.taskmanagement.cli.service.TaskCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.shell.Availability;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellMethodAvailability;
 import org.springframework.shell.standard.ShellOption;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.util.ArrayList;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -27,40 +31,101 @@ public class TaskShellCommand {
     @Autowired
     private ShellService shellService;
 
+    @Autowired
+    private TaskCache taskCache;
+
+    private static final String[] TASK_HEADERS = {"ID", "Title", "Assigned To", "Status", "Priority"};
+
     @ShellMethod(key = "task-list", value = "List all tasks")
     @ShellMethodAvailability("isUserLoggedIn")
-    public void listTasks() {
+    public void listTasks(
+            @ShellOption(value = {"-l", "--limit"}, help = "Maximum number of tasks to show", defaultValue = "50") int limit,
+            @ShellOption(value = {"-c", "--cursor"}, help = "Cursor from a previous listing", defaultValue = ShellOption.NULL) String cursor,
+            @ShellOption(value = {"--no-cache"}, help = "Read from the server instead of the local cache", defaultValue = "false") boolean noCache
+    ) {
         try {
+            // Cursors are server positions, so paging through them always goes to the server
+            if (!noCache && cursor == null) {
+                listCachedTasks(limit);
+                return;
+            }
+
             shellService.printHeading("Fetching Tasks...");
 
-            Object[] tasks = apiService.get("/tasks", Object[].class);
-            if (tasks.length == 0) {
+            String uri = "/tasks?limit=" + limit;
+            if (cursor != null) {
+                uri += "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> page = apiService.get(uri, Map.class);
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> tasks = (List<Map<String, Object>>) page.get("tasks");
+            if (tasks == null || tasks.isEmpty()) {
                 shellService.printInfo("No tasks found");
             } else {
-                List<String[]> tableData = new ArrayList<>();
-
-                for (Object taskObj : tasks) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> task = (Map<String, Object>) taskObj;
-
-                    String[] row = new String[5];
-                    row[0] = String.valueOf(task.get("id"));
-                    row[1] = String.valueOf(task.get("title"));
-                    row[2] = String.valueOf(task.get("assignedToName"));
-                    row[3] = String.valueOf(task.get("statusName"));
-                    row[4] = String.valueOf(task.get("priorityName"));
-
-                    tableData.add(row);
-                }
+                shellService.printTable(TASK_HEADERS, toRows(tasks));
+            }
 
-                String[] headers = {"ID", "Title", "Assigned To", "Status", "Priority"};
-                shellService.printTable(headers, tableData.toArray(new String[0][]));
+            Object next = page.get("next");
+            if (next != null) {
+                shellService.printInfo("More tasks available. Use 'task-list --cursor " + next + "' to see the next page.");
             }
         } catch (Exception e) {
             shellService.printError("Error fetching tasks: " + e.getMessage());
         }
     }
 
+    private void listCachedTasks(int limit) {
+        if (taskCache.isSynced()) {
+            taskCache.refreshInBackground();
+        } else {
+            shellService.printHeading("Syncing tasks...");
+            taskCache.sync();
+        }
+
+        List<Map<String, Object>> tasks = taskCache.getTasks();
+        if (tasks.isEmpty()) {
+            shellService.printInfo("No tasks found");
+        } else {
+            shellService.printTable(TASK_HEADERS, toRows(tasks.subList(0, Math.min(limit, tasks.size()))));
+            if (tasks.size() > limit) {
+                shellService.printInfo("Showing " + limit + " of " + tasks.size() + " tasks. Use 'task-list --limit' to see more.");
+            }
+        }
+        printCacheWarnings();
+    }
+
+    // Background refreshes finish after their command returns, so their failures show up on the next one
+    private void printCacheWarnings() {
+        for (String warning : taskCache.drainWarnings()) {
+            shellService.printWarning(warning);
+        }
+    }
+
+    // Rows are built as the table is written, so nothing beyond the task maps is held in memory
+    private static Iterator<String[]> toRows(List<Map<String, Object>> tasks) {
+        Iterator<Map<String, Object>> iterator = tasks.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                Map<String, Object> task = iterator.next();
+                String[] row = new String[5];
+                row[0] = String.valueOf(task.get("id"));
+                row[1] = String.valueOf(task.get("title"));
+                row[2] = String.valueOf(task.get("assignedToName"));
+                row[3] = String.valueOf(task.get("statusName"));
+                row[4] = String.valueOf(task.get("priorityName"));
+                return row;
+            }
+        };
+    }
+
     @ShellMethod(key = "task-create", value = "Create a new task")
     @ShellMethodAvailability("isUserLoggedIn")
     public void createTask(
@@ -91,6 +156,7 @@ public class TaskShellCommand {
             // Display the created task
             @SuppressWarnings("unchecked")
             Map<String, Object> taskResult = (Map<String, Object>) createdTask;
+            taskCache.remember(taskResult);
             shellService.printInfo("ID: " + taskResult.get("id"));
             shellService.printInfo("Title: " + taskResult.get("title"));
 
@@ -101,13 +167,23 @@ public class TaskShellCommand {
 
     @ShellMethod(key = "task-get", value = "Get task details")
     @ShellMethodAvailability("isUserLoggedIn")
-    public void getTask(@ShellOption(help = "Task ID") String taskId) {
+    public void getTask(
+            @ShellOption(help = "Task ID") String taskId,
+            @ShellOption(value = {"--no-cache"}, help = "Read from the server instead of the local cache", defaultValue = "false") boolean noCache
+    ) {
         try {
-            shellService.printHeading("Fetching task details...");
+            Map<String, Object> task = noCache ? null : taskCache.getTask(taskId);
+            if (task != null) {
+                taskCache.refreshInBackground();
+            } else {
+                shellService.printHeading("Fetching task details...");
 
-            Object taskObj = apiService.get("/tasks/" + taskId, Object.class);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> task = (Map<String, Object>) taskObj;
+                Object taskObj = apiService.get("/tasks/" + taskId, Object.class);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> fetched = (Map<String, Object>) taskObj;
+                task = fetched;
+                taskCache.remember(task);
+            }
 
             shellService.printHeading("Task Details:");
             shellService.printInfo("ID: " + task.get("id"));
@@ -119,6 +195,7 @@ public class TaskShellCommand {
             shellService.printInfo("Story Points: " + task.get("storyPoints"));
             shellService.printInfo("Estimated Hours: " + task.get("estimatedHours"));
             shellService.printInfo("Due Date: " + task.get("dueDate"));
+            printCacheWarnings();
         } catch (Exception e) {
             shellService.printError("Error fetching task: " + e.getMessage());
         }
@@ -138,23 +215,36 @@ public class TaskShellCommand {
         try {
             shellService.printHeading("Updating task...");
 
-            // First get the current task
-            Object currentTaskObj = apiService.get("/tasks/" + taskId, Object.class);
+            // Send only the fields that were provided; the server leaves the rest untouched
+            Map<String, Object> changes = new HashMap<>();
+            if (title != null) changes.put("title", title);
+            if (description != null) changes.put("description", description);
+            if (assigneeId != null) changes.put("assignedToId", assigneeId);
+            if (statusId != null) changes.put("statusId", statusId);
+            if (priorityId != null) changes.put("priorityId", priorityId);
+            if (dueDate != null) changes.put("dueDate", dueDate);
+
+            if (changes.isEmpty()) {
+                shellService.printWarning("Nothing to update");
+                return;
+            }
+
+            // The version this client last saw; the server rejects the patch if the task has moved on since
+            Map<String, Object> cached = taskCache.getTask(taskId);
+            if (cached != null && cached.get("version") != null) {
+                changes.put("version", cached.get("version"));
+            }
+
             @SuppressWarnings("unchecked")
-            Map<String, Object> currentTask = (Map<String, Object>) currentTaskObj;
-
-            // Update only the fields that were provided
-            Map<String, Object> updatedTask = new HashMap<>(currentTask);
-            if (title != null) updatedTask.put("title", title);
-            if (description != null) updatedTask.put("description", description);
-            if (assigneeId != null) updatedTask.put("assignedToId", assigneeId);
-            if (statusId != null) updatedTask.put("statusId", statusId);
-            if (priorityId != null) updatedTask.put("priorityId", priorityId);
-            if (dueDate != null) updatedTask.put("dueDate", dueDate);
-
-            apiService.put("/tasks/" + taskId, updatedTask, Object.class);
+            Map<String, Object> updatedTask = apiService.patch("/tasks/" + taskId, changes, Map.class);
+            taskCache.remember(updatedTask);
             shellService.printSuccess("Task updated successfully!");
 
+        } catch (WebClientResponseException.Conflict e) {
+            // Drop the stale copy so task-get fetches the current one
+            taskCache.forget(taskId);
+            shellService.printError("Task " + taskId + " was changed by someone else since you last loaded it."
+                    + " Run 'task-get " + taskId + "' to see the current version, then update again.");
         } catch (Exception e) {
             shellService.printError("Error updating task: " + e.getMessage());
         }
@@ -166,6 +256,7 @@ public class TaskShellCommand {
         try {
             shellService.printHeading("Deleting task...");
             apiService.delete("/tasks/" + taskId, Object.class);
+            taskCache.forget(taskId);
             shellService.printSuccess("Task deleted successfully!");
         } catch (Exception e) {
             shellService.printError("Error deleting task: " + e.getMessage());
@@ -0,0 +1,55 @@
+package com.taskmanagement.cli.config;
+
+import com.taskmanagement.cli.command.EpicSprintShellCommands;
+import com.taskmanagement.cli.command.LoginShellCommand;
+import com.taskmanagement.cli.command.OneShotCommands;
+import com.taskmanagement.cli.command.TaskShellCommand;
+import com.taskmanagement.cli.command.WelcomeCommand;
+import com.taskmanagement.cli.service.ApiReader;
+import com.taskmanagement.cli.service.TaskCache;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+// Reflection and resources the native image needs beyond what Spring AOT, Spring Shell, JLine and Jansi
+// already contribute. JLine and Jansi ship their own native-image configuration.
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Spring Shell finds @ShellMethod and availability methods reflectively
+        for (Class<?> type : new Class<?>[]{TaskShellCommand.class, LoginShellCommand.class,
+                EpicSprintShellCommands.class, WelcomeCommand.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // picocli builds the one-shot command model from annotated methods, including its help mixin
+        hints.reflection().registerType(OneShotCommands.class,
+                MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.DECLARED_FIELDS);
+        hints.reflection().registerType(TypeReference.of("picocli.CommandLine$AutoHelpMixin"),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+
+        // The one-shot context registers these without generated bean definitions
+        for (Class<?> type : new Class<?>[]{UserSession.class, ApiReader.class, TaskCache.class}) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Untyped JSON from the API and the task cache is bound to plain maps and lists
+        for (Class<?> type : new Class<?>[]{LinkedHashMap.class, HashMap.class, ArrayList.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        // OAuthService's callback server; the provider is looked up before falling back to the default
+        hints.reflection().registerType(TypeReference.of("sun.net.httpserver.DefaultHttpServerProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.resources().registerPattern("banner.txt");
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.cli.service;
+
+// A failed ApiReader request: the HTTP status and Retry-After header when the server answered, status 0 when
+// it could not be reached
+public class ApiException extends RuntimeException {
+
+    private final int status;
+    private final String retryAfter;
+
+    public ApiException(String message, int status, String retryAfter) {
+        super(message);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public ApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+        this.retryAfter = null;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getRetryAfter() {
+        return retryAfter;
+    }
+}
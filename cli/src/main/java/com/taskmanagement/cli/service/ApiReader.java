@@ -0,0 +1,73 @@
+package com.taskmanagement.cli.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.cli.config.UserSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+// Authenticated JSON reads over the JDK HTTP client. The task cache and the one-shot commands use this instead
+// of APIService so a scripted call never starts WebClient and Reactor Netty.
+@Service
+public class ApiReader {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final TypeReference<Map<String, Object>> OBJECT_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private UserSession userSession;
+
+    @Value("${cli.api.base-url}")
+    private String apiBaseUrl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Built on first use: creating it starts the client's selector thread
+    private HttpClient httpClient;
+
+    public Map<String, Object> get(String uri) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiBaseUrl + uri))
+                .header("Authorization", "Bearer " + userSession.getToken())
+                .header("Accept", "application/json")
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = getHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new ApiException("Could not reach " + apiBaseUrl + ": "
+                    + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while calling " + apiBaseUrl, e);
+        }
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() >= 400) {
+                throw new ApiException(response.statusCode() + " from GET " + uri, response.statusCode(),
+                        response.headers().firstValue("Retry-After").orElse(null));
+            }
+            return objectMapper.readValue(body, OBJECT_TYPE);
+        } catch (IOException e) {
+            throw new ApiException("Failed to read the response to GET " + uri + ": " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized HttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+        }
+        return httpClient;
+    }
+}
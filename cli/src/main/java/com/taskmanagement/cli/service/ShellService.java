@@ -1,15 +1,31 @@
 package com.taskmanagement.cli.service;
 
+import org.jline.terminal.Attributes;
 import org.jline.terminal.Terminal;
+import org.jline.utils.NonBlockingReader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
 @Service
 public class ShellService {
 
+    private static final int WIDTH_SAMPLE_ROWS = 100;
+    private static final int MAX_COLUMN_WIDTH = 60;
+    private static final int MIN_COLUMN_WIDTH = 8;
+    private static final String ELLIPSIS = "\u2026";
+
     @Autowired
     private Terminal terminal;
 
+    private String ellipsis;
+
     public void printSuccess(String message) {
         terminal.writer().println("\u001B[32m" + message + "\u001B[0m");
         terminal.flush();
@@ -37,47 +53,148 @@ public class ShellService {
 
     // For tables and structured output
     public void printTable(String[] headers, String[][] data) {
-        // Calculate column widths
-        int[] colWidths = new int[headers.length];
-        for (int i = 0; i < headers.length; i++) {
-            colWidths[i] = headers[i].length();
+        printTable(headers, Arrays.asList(data).iterator());
+    }
+
+    // Rows are written as they arrive: column widths come from the first rows only, longer cells are
+    // cut with an ellipsis, and interactive terminals pause after every screenful
+    public void printTable(String[] headers, Iterator<String[]> rows) {
+        List<String[]> sample = new ArrayList<>(WIDTH_SAMPLE_ROWS);
+        while (sample.size() < WIDTH_SAMPLE_ROWS && rows.hasNext()) {
+            sample.add(rows.next());
+        }
+        int[] colWidths = columnWidths(headers, sample);
+
+        PrintWriter writer = terminal.writer();
+        StringBuilder line = new StringBuilder();
+        char[] chars = new char[256];
+
+        line.append('+');
+        for (int width : colWidths) {
+            line.append("-".repeat(width + 2)).append('+');
         }
+        String dividerLine = line.toString();
+
+        writer.println(dividerLine);
+        chars = writeRow(writer, line, chars, headers, colWidths);
+        writer.println(dividerLine);
 
-        for (String[] row : data) {
-            for (int i = 0; i < row.length; i++) {
-                colWidths[i] = Math.max(colWidths[i], row[i].length());
+        int pageSize = pageSize();
+        int linesOnPage = 3;
+        Iterator<String[]> sampled = sample.iterator();
+        while (sampled.hasNext() || rows.hasNext()) {
+            if (pageSize > 0 && linesOnPage >= pageSize) {
+                if (!waitForNextPage()) {
+                    break;
+                }
+                linesOnPage = 0;
             }
+            String[] row = sampled.hasNext() ? sampled.next() : rows.next();
+            chars = writeRow(writer, line, chars, row, colWidths);
+            linesOnPage++;
         }
 
-        // Print headers
-        StringBuilder headerLine = new StringBuilder();
-        StringBuilder dividerLine = new StringBuilder();
+        writer.println(dividerLine);
+        terminal.flush();
+    }
 
+    private int[] columnWidths(String[] headers, List<String[]> sample) {
+        int[] colWidths = new int[headers.length];
         for (int i = 0; i < headers.length; i++) {
-            headerLine.append(String.format("| %-" + colWidths[i] + "s ", headers[i]));
-            dividerLine.append("+");
-            for (int j = 0; j < colWidths[i] + 2; j++) {
-                dividerLine.append("-");
+            colWidths[i] = headers[i].length();
+        }
+        for (String[] row : sample) {
+            for (int i = 0; i < row.length && i < colWidths.length; i++) {
+                colWidths[i] = Math.max(colWidths[i], Math.min(cellLength(row[i]), MAX_COLUMN_WIDTH));
             }
         }
-        headerLine.append("|");
-        dividerLine.append("+");
-
-        terminal.writer().println(dividerLine.toString());
-        terminal.writer().println(headerLine.toString());
-        terminal.writer().println(dividerLine.toString());
-
-        // Print data
-        for (String[] row : data) {
-            StringBuilder dataLine = new StringBuilder();
-            for (int i = 0; i < row.length; i++) {
-                dataLine.append(String.format("| %-" + colWidths[i] + "s ", row[i]));
+
+        // Shrink the widest columns until the table fits the terminal, if its width is known
+        int available = terminal.getWidth() - (3 * headers.length + 1);
+        if (terminal.getWidth() > 0) {
+            int total = Arrays.stream(colWidths).sum();
+            while (total > available) {
+                int widest = 0;
+                for (int i = 1; i < colWidths.length; i++) {
+                    if (colWidths[i] > colWidths[widest]) {
+                        widest = i;
+                    }
+                }
+                if (colWidths[widest] <= MIN_COLUMN_WIDTH) {
+                    break;
+                }
+                colWidths[widest]--;
+                total--;
             }
-            dataLine.append("|");
-            terminal.writer().println(dataLine.toString());
         }
+        return colWidths;
+    }
 
-        terminal.writer().println(dividerLine.toString());
+    private char[] writeRow(PrintWriter writer, StringBuilder line, char[] chars, String[] cells, int[] colWidths) {
+        line.setLength(0);
+        for (int i = 0; i < colWidths.length; i++) {
+            String cell = i < cells.length && cells[i] != null ? cells[i] : "";
+            int width = colWidths[i];
+            line.append("| ");
+            if (cell.length() > width) {
+                String marker = ellipsis();
+                line.append(cell, 0, Math.max(0, width - marker.length())).append(marker);
+            } else {
+                line.append(cell);
+                for (int pad = cell.length(); pad < width; pad++) {
+                    line.append(' ');
+                }
+            }
+            line.append(' ');
+        }
+        line.append('|').append(System.lineSeparator());
+
+        // Copy into the reused buffer rather than materializing a String per row
+        if (chars.length < line.length()) {
+            chars = new char[line.length() * 2];
+        }
+        line.getChars(0, line.length(), chars, 0);
+        writer.write(chars, 0, line.length());
+        return chars;
+    }
+
+    // Fall back to dots on terminals whose charset has no ellipsis character
+    private String ellipsis() {
+        if (ellipsis == null) {
+            ellipsis = terminal.encoding().newEncoder().canEncode(ELLIPSIS) ? ELLIPSIS : "...";
+        }
+        return ellipsis;
+    }
+
+    private static int cellLength(String cell) {
+        return cell != null ? cell.length() : 0;
+    }
+
+    // Lines per screen, or 0 when output is not going to an interactive terminal
+    private int pageSize() {
+        if (System.console() == null || Terminal.TYPE_DUMB.equals(terminal.getType())
+                || Terminal.TYPE_DUMB_COLOR.equals(terminal.getType())) {
+            return 0;
+        }
+        return Math.max(0, terminal.getHeight() - 1);
+    }
+
+    private boolean waitForNextPage() {
+        PrintWriter writer = terminal.writer();
+        writer.print("\u001B[7m-- More -- (Enter for next page, q to stop)\u001B[0m");
         terminal.flush();
+
+        Attributes attributes = terminal.enterRawMode();
+        try {
+            int key = terminal.reader().read();
+            return key != 'q' && key != 'Q' && key != NonBlockingReader.EOF;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            terminal.setAttributes(attributes);
+            // Erase the prompt so it does not remain between pages
+            writer.print("\r\u001B[K");
+            terminal.flush();
+        }
     }
-}
\ No newline at end of file
+}
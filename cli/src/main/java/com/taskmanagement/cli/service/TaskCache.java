@@ -0,0 +1,379 @@
+package com.taskmanagement.cli.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.cli.config.UserSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Local copy of the task list, kept as an append-only log under the user's home and brought up to date
+// from /tasks/changes so reads never wait on the network once the first sync has finished.
+// Problems are queued as warnings for the calling command to print, since this also runs under --json.
+@Service
+public class TaskCache {
+    private static final String CACHE_DIR = ".taskmanagement-cache";
+    private static final int CHANGES_PAGE_SIZE = 200;
+    private static final TypeReference<Map<String, Object>> ENTRY_TYPE = new TypeReference<>() {};
+
+    // Log entries: {"t": task} upserts a task, {"d": id} deletes one, {"w": watermark} marks a pulled page
+    private static final String TASK_KEY = "t";
+    private static final String DELETED_KEY = "d";
+    private static final String WATERMARK_KEY = "w";
+
+    @Autowired
+    private ApiReader apiReader;
+
+    @Autowired
+    private UserSession userSession;
+
+    @Value("${cli.api.base-url}")
+    private String apiBaseUrl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Insertion order follows the change feed, which approximates creation order for the listing
+    private final Map<String, Map<String, Object>> tasks = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Queue<String> warnings = new ConcurrentLinkedQueue<>();
+
+    // Readers only ever take loadLock, and only until the log has been read once; syncLock serialises
+    // syncs and log writes and is held across the network round trips
+    private final Object loadLock = new Object();
+    private final Object syncLock = new Object();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile String watermark;
+    private volatile boolean loaded;
+    private int logEntries;
+
+    // True once a full sync has completed, so reads can be served locally
+    public boolean isSynced() {
+        load();
+        return watermark != null;
+    }
+
+    public List<Map<String, Object>> getTasks() {
+        load();
+        synchronized (tasks) {
+            return new ArrayList<>(tasks.values());
+        }
+    }
+
+    public Map<String, Object> getTask(String id) {
+        load();
+        return tasks.get(id);
+    }
+
+    // Record a task returned by a write so it shows up before the change feed catches up
+    public void remember(Map<String, Object> task) {
+        Object id = task.get("id");
+        if (id == null) {
+            return;
+        }
+        load();
+        tasks.merge(String.valueOf(id), task, (cached, incoming) -> versionOf(incoming) >= versionOf(cached) ? incoming : cached);
+    }
+
+    public void forget(String id) {
+        load();
+        tasks.remove(id);
+    }
+
+    // Pull every change since the stored watermark and append it to the log
+    public void sync() {
+        synchronized (syncLock) {
+            pullChanges();
+        }
+    }
+
+    private void pullChanges() {
+        load();
+        boolean more = true;
+        while (more) {
+            String uri = "/tasks/changes?limit=" + CHANGES_PAGE_SIZE;
+            if (watermark != null) {
+                uri += "&since=" + URLEncoder.encode(watermark, StandardCharsets.UTF_8);
+            }
+
+            Map<String, Object> page;
+            try {
+                page = apiReader.get(uri);
+            } catch (ApiException e) {
+                if (e.getStatus() != 410) {
+                    throw e;
+                }
+                // Gone: the server no longer has deletions that old; start again from an empty cache
+                reset();
+                load();
+                continue;
+            }
+
+            List<String> lines = new ArrayList<>();
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> upserts = (List<Map<String, Object>>) page.get("upserts");
+            if (upserts != null) {
+                for (Map<String, Object> task : upserts) {
+                    tasks.put(String.valueOf(task.get("id")), task);
+                    lines.add(toJson(Map.of(TASK_KEY, task)));
+                }
+            }
+            @SuppressWarnings("unchecked")
+            List<Object> deleted = (List<Object>) page.get("deleted");
+            if (deleted != null) {
+                for (Object id : deleted) {
+                    tasks.remove(String.valueOf(id));
+                    lines.add(toJson(Map.of(DELETED_KEY, String.valueOf(id))));
+                }
+            }
+            watermark = (String) page.get("watermark");
+            if (watermark != null) {
+                lines.add(toJson(Map.of(WATERMARK_KEY, watermark)));
+            }
+            append(lines);
+            more = Boolean.TRUE.equals(page.get("more"));
+        }
+
+        // Rewrite the log once superseded entries dominate it
+        if (logEntries > 2 * tasks.size() + 1000) {
+            compact();
+        }
+    }
+
+    // Serve the current copy and bring it up to date off the shell thread
+    public void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                sync();
+            } catch (Exception e) {
+                warnRefreshFailed(e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    // Queue a warning that explains why the cached copy could not be brought up to date
+    public void warnRefreshFailed(Exception e) {
+        int status = e instanceof ApiException ? ((ApiException) e).getStatus() : 0;
+        if (status == 401) {
+            warn("Your session has expired, so cached tasks may be out of date. Run 'signin' to refresh them.");
+        } else if (status == 429) {
+            String retryAfter = ((ApiException) e).getRetryAfter();
+            warn("The server is rate limiting requests, so cached tasks may be out of date"
+                    + (retryAfter != null ? "; retry in " + retryAfter + "s." : "."));
+        } else {
+            // Offline or server trouble: keep serving what is cached, but say so
+            warn("Could not refresh tasks, showing cached data: " + e.getMessage());
+        }
+    }
+
+    public void clear() {
+        synchronized (syncLock) {
+            reset();
+        }
+    }
+
+    // Drop the in-memory copy but keep its log, e.g. before the session switches to another account.
+    // Waits for a sync in flight so it cannot append the old account's changes to the new account's log.
+    public void unload() {
+        synchronized (syncLock) {
+            synchronized (loadLock) {
+                forgetLoaded();
+            }
+        }
+    }
+
+    // Warnings since the last call, oldest first
+    public List<String> drainWarnings() {
+        List<String> drained = new ArrayList<>();
+        String warning;
+        while ((warning = warnings.poll()) != null) {
+            drained.add(warning);
+        }
+        return drained;
+    }
+
+    private void warn(String warning) {
+        if (!warnings.contains(warning)) {
+            warnings.add(warning);
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (!loaded) {
+                readLog();
+                loaded = true;
+            }
+        }
+    }
+
+    private void readLog() {
+        Path file = getCacheFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Map<String, Object> entry;
+                try {
+                    entry = objectMapper.readValue(line, ENTRY_TYPE);
+                } catch (JsonProcessingException e) {
+                    // A torn write from an interrupted run; everything before it is still valid
+                    break;
+                }
+                apply(entry);
+                logEntries++;
+            }
+        } catch (IOException e) {
+            warn("Error loading task cache: " + e.getMessage());
+            tasks.clear();
+            watermark = null;
+            logEntries = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void apply(Map<String, Object> entry) {
+        if (entry.containsKey(TASK_KEY)) {
+            Map<String, Object> task = (Map<String, Object>) entry.get(TASK_KEY);
+            tasks.put(String.valueOf(task.get("id")), task);
+        } else if (entry.containsKey(DELETED_KEY)) {
+            tasks.remove(String.valueOf(entry.get(DELETED_KEY)));
+        } else if (entry.containsKey(WATERMARK_KEY)) {
+            watermark = (String) entry.get(WATERMARK_KEY);
+        }
+    }
+
+    private void append(List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(prepareCacheFile(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String line : lines) {
+                out.write(line);
+                out.newLine();
+            }
+            logEntries += lines.size();
+        } catch (IOException e) {
+            warn("Error writing task cache: " + e.getMessage());
+        }
+    }
+
+    private void compact() {
+        Path file = getCacheFile();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            List<String> lines = new ArrayList<>();
+            synchronized (tasks) {
+                for (Map<String, Object> task : tasks.values()) {
+                    lines.add(toJson(Map.of(TASK_KEY, task)));
+                }
+            }
+            if (watermark != null) {
+                lines.add(toJson(Map.of(WATERMARK_KEY, watermark)));
+            }
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logEntries = lines.size();
+        } catch (IOException e) {
+            warn("Error compacting task cache: " + e.getMessage());
+        }
+    }
+
+    private void reset() {
+        synchronized (loadLock) {
+            forgetLoaded();
+            try {
+                Files.deleteIfExists(getCacheFile());
+            } catch (IOException e) {
+                warn("Error clearing task cache: " + e.getMessage());
+            }
+        }
+    }
+
+    // The next read reloads, picking up the right log if the account changed
+    private void forgetLoaded() {
+        tasks.clear();
+        watermark = null;
+        logEntries = 0;
+        loaded = false;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize task cache entry", e);
+        }
+    }
+
+    private static long versionOf(Map<String, Object> task) {
+        Object version = task.get("version");
+        return version instanceof Number ? ((Number) version).longValue() : -1;
+    }
+
+    // One log per server and account so switching either never mixes task lists
+    private Path getCacheFile() {
+        String owner = apiBaseUrl + "|" + (userSession.getUserEmail() != null ? userSession.getUserEmail() : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(owner.getBytes(StandardCharsets.UTF_8));
+            return Paths.get(System.getProperty("user.home"), CACHE_DIR, "tasks-" + HexFormat.of().formatHex(digest) + ".log");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path prepareCacheFile() throws IOException {
+        Path file = getCacheFile();
+        Path dir = file.getParent();
+        if (!Files.isDirectory(dir)) {
+            Files.createDirectories(dir);
+            // Task contents are as private as the session token
+            if (Files.getFileAttributeView(dir, PosixFileAttributeView.class) != null) {
+                Files.setPosixFilePermissions(dir, PosixFilePermissions.fromString("rwx------"));
+            }
+        }
+        return file;
+    }
+}
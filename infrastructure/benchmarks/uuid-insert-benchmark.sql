@@ -0,0 +1,72 @@
+-- Compares insert time, WAL volume and primary key index size for random (v4) and time-ordered (v7) UUID keys.
+-- Mirrors the tasks table shape: a UUID primary key and a foreign-key style UUID column.
+--
+-- Run against a scratch database (PostgreSQL 13 or later for gen_random_uuid()):
+--   psql -h localhost -U postgres -d taskmanagement_bench -f infrastructure/benchmarks/uuid-insert-benchmark.sql
+--
+-- Both id sets are generated up front, so the timed inserts measure only index maintenance, not the cost of
+-- the generator functions. Record results next to the psql output they came from, with the host and
+-- PostgreSQL version, so they can be reproduced.
+
+\set rows 1000000
+
+DROP TABLE IF EXISTS bench_tasks_v4;
+DROP TABLE IF EXISTS bench_tasks_v7;
+
+CREATE TABLE bench_tasks_v4 (
+    id UUID PRIMARY KEY,
+    assigned_to_id UUID NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE bench_tasks_v7 (LIKE bench_tasks_v4 INCLUDING ALL);
+
+-- Random keys, in the order they will be inserted
+CREATE TEMP TABLE bench_ids_v4 AS
+SELECT g, gen_random_uuid() AS id, gen_random_uuid() AS assigned_to_id
+FROM generate_series(1, :rows) g;
+
+-- Same layout as TimeOrderedUuid.generate(): 48-bit ms timestamp, version 7, 12-bit sequence, random tail.
+-- Sixteen ids per millisecond keeps them strictly increasing in insert order, as the application produces them.
+CREATE TEMP TABLE bench_ids_v7 AS
+SELECT g,
+       (lpad(to_hex((extract(epoch FROM now()) * 1000)::bigint + g / 16), 12, '0')
+            || '7' || lpad(to_hex(g % 16), 3, '0')
+            || substr(replace(gen_random_uuid()::text, '-', ''), 17))::uuid AS id,
+       assigned_to_id
+FROM bench_ids_v4;
+
+ANALYZE bench_ids_v4;
+ANALYZE bench_ids_v7;
+
+CREATE TEMP TABLE bench_wal (label TEXT PRIMARY KEY, start_lsn PG_LSN, end_lsn PG_LSN);
+
+\timing on
+
+CHECKPOINT;
+INSERT INTO bench_wal (label, start_lsn) VALUES ('v4', pg_current_wal_lsn());
+INSERT INTO bench_tasks_v4 (id, assigned_to_id, title)
+SELECT id, assigned_to_id, 'task ' || g FROM bench_ids_v4 ORDER BY g;
+UPDATE bench_wal SET end_lsn = pg_current_wal_lsn() WHERE label = 'v4';
+
+CHECKPOINT;
+INSERT INTO bench_wal (label, start_lsn) VALUES ('v7', pg_current_wal_lsn());
+INSERT INTO bench_tasks_v7 (id, assigned_to_id, title)
+SELECT id, assigned_to_id, 'task ' || g FROM bench_ids_v7 ORDER BY g;
+UPDATE bench_wal SET end_lsn = pg_current_wal_lsn() WHERE label = 'v7';
+
+\timing off
+
+SELECT label, pg_size_pretty(pg_wal_lsn_diff(end_lsn, start_lsn)) AS wal
+FROM bench_wal
+ORDER BY label;
+
+SELECT relname AS index_name, pg_size_pretty(pg_relation_size(oid)) AS size
+FROM pg_class
+WHERE relname IN ('bench_tasks_v4_pkey', 'bench_tasks_v7_pkey')
+ORDER BY relname;
+
+DROP TABLE bench_tasks_v4;
+DROP TABLE bench_tasks_v7;
+
@@ -0,0 +1,22 @@
+#!/bin/bash
+# Launches the CLI from the class-data-sharing layout built by ./gradlew :cli:cdsArchive
+# Set TASKCLI_HOME to use a layout copied elsewhere.
+APP_HOME="${TASKCLI_HOME:-$(dirname "$0")/../../cli/build/cds}"
+APP_HOME="$(cd "$APP_HOME" && pwd)" || exit 1
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ ! -f "$APP_HOME/classpath.txt" ]; then
+    echo "No CDS layout in $APP_HOME; run ./gradlew :cli:cdsArchive first" >&2
+    exit 1
+fi
+
+# Must match the order the archive was dumped with
+CLASSPATH=$(sed "s#^#$APP_HOME/#" "$APP_HOME/classpath.txt" | paste -sd: -)
+
+SHARE=()
+if [ -f "$APP_HOME/app.jsa" ]; then
+    SHARE=(-XX:SharedArchiveFile="$APP_HOME/app.jsa" -Xshare:auto)
+fi
+
+# A CLI process is too short-lived for C2 to pay off; C1 alone starts noticeably faster
+exec "$JAVA" "${SHARE[@]}" -XX:TieredStopAtLevel=1 $JAVA_OPTS -cp "$CLASSPATH" com.taskmanagement.cli.TaskManagementCLI "$@"
@@ -0,0 +1,21 @@
+#!/bin/bash
+# Launches the server from the class-data-sharing layout built by ./gradlew :server:cdsArchive
+# Set TASKMANAGEMENT_SERVER_HOME to use a layout copied elsewhere.
+APP_HOME="${TASKMANAGEMENT_SERVER_HOME:-$(dirname "$0")/../../server/build/cds}"
+APP_HOME="$(cd "$APP_HOME" && pwd)" || exit 1
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ ! -f "$APP_HOME/classpath.txt" ]; then
+    echo "No CDS layout in $APP_HOME; run ./gradlew :server:cdsArchive first" >&2
+    exit 1
+fi
+
+# Must match the order the archive was dumped with
+CLASSPATH=$(sed "s#^#$APP_HOME/#" "$APP_HOME/classpath.txt" | paste -sd: -)
+
+SHARE=()
+if [ -f "$APP_HOME/app.jsa" ]; then
+    SHARE=(-XX:SharedArchiveFile="$APP_HOME/app.jsa" -Xshare:auto)
+fi
+
+exec "$JAVA" "${SHARE[@]}" $JAVA_OPTS -cp "$CLASSPATH" com.taskmanagement.TaskManagementApplication "$@"
@@ -0,0 +1,27 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.security.CachingGooglePublicKeySource;
+import com.taskmanagement.security.FileGooglePublicKeySource;
+import com.taskmanagement.security.GooglePublicKeySource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+@Configuration
+public class GoogleAuthConfig {
+
+    @Bean
+    public GooglePublicKeySource googlePublicKeySource(
+            @Value("${security.oauth2.google.certs-file:}") String certsFile,
+            @Value("${security.oauth2.google.certs-url:https://www.googleapis.com/oauth2/v1/certs}") String certsUrl) {
+        // A local certificate file replaces the network fetch, e.g. for tests with self-signed tokens
+        if (StringUtils.hasText(certsFile)) {
+            return new FileGooglePublicKeySource(Path.of(certsFile));
+        }
+        return new CachingGooglePublicKeySource(URI.create(certsUrl));
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.metrics.SampledSqlLogger;
+import com.taskmanagement.metrics.StatementCounter;
+import com.taskmanagement.service.ReferenceDataCache;
+import com.taskmanagement.service.TaskEventBroadcaster;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on service methods
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // Routes every JDBC statement through StatementCounter and SampledSqlLogger; pool metrics still see Hikari via unwrap()
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        double sampleRate = environment.getProperty("logging.sql.sample-rate", Double.class, 0.0);
+        long slowThresholdMillis = environment.getProperty("logging.sql.slow-threshold-ms", Long.class, 500L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementCounter())
+                            .listener(new SampledSqlLogger(sampleRate, slowThresholdMillis))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder referenceDataMetrics(ReferenceDataCache referenceData) {
+        return registry -> {
+            FunctionCounter.builder("reference.data.lookups", referenceData, ReferenceDataCache::getHitCount)
+                    .description("Reference data lookups served from memory")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("reference.data.lookups", referenceData, ReferenceDataCache::getMissCount)
+                    .description("Reference data lookups that went to the database")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder taskStreamMetrics(TaskEventBroadcaster taskEvents) {
+        return registry -> Gauge.builder("tasks.stream.subscribers", taskEvents, TaskEventBroadcaster::getSubscriberCount)
+                .description("Open task change streams")
+                .register(registry);
+    }
+}
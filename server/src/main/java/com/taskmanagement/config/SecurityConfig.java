@@ -2,6 +2,9 @@ package com.taskmanagement.config;
 
 import com.taskmanagement.security.JWTFilter;
 import com.taskmanagement.security.JWTTokenProvider;
+import com.taskmanagement.security.RateLimitFilter;
+import com.taskmanagement.security.RateLimiter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -17,9 +20,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JWTTokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
 
-    public SecurityConfig(JWTTokenProvider tokenProvider) {
+    public SecurityConfig(JWTTokenProvider tokenProvider, RateLimiter rateLimiter) {
         this.tokenProvider = tokenProvider;
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
@@ -30,10 +35,15 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // The request was authorized on its first dispatch; the async dispatch that ends an SSE
+                        // stream and the error dispatch run without JWTFilter, so they would be denied as anonymous
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JWTFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JWTFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), JWTFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,26 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// The CDS training run (./gradlew :server:cdsArchive) only needs startup to complete, then exits so the
+// JVM can write the archive
+@Component
+@ConditionalOnProperty(name = "cds.training-run", havingValue = "true")
+public class TrainingRunExit {
+
+    private final ConfigurableApplicationContext context;
+
+    public TrainingRunExit(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exit() {
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -1,16 +1,34 @@
 package com.taskmanagement.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.dto.BulkTaskResultDTO;
+import com.taskmanagement.dto.SprintStatusStatsDTO;
+import com.taskmanagement.dto.TaskChangesDTO;
 import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskPageDTO;
+import com.taskmanagement.dto.TaskPatchDTO;
+import com.taskmanagement.service.TaskEventBroadcaster;
 import com.taskmanagement.service.TaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,25 +39,114 @@ public class TaskController {
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskEventBroadcaster taskEvents;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper, TaskEventBroadcaster taskEvents) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.taskEvents = taskEvents;
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<TaskPageDTO> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
         UUID userId = UUID.fromString(userDetails.getUsername());
-        logger.info("User {} requesting all tasks", userId);
-        return ResponseEntity.ok(taskService.getAllTasks(userId));
+        logger.info("User {} requesting tasks", userId);
+
+        // The page query is a single keyset read, so the tag comes from its rows rather than a table-wide aggregate;
+        // a match still saves serializing and sending the page
+        TaskPageDTO page = taskService.getTasks(cursor, limit, userId);
+        String eTag = taskService.getPageVersion(cursor, limit, page);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} requesting task changes", userId);
+        return ResponseEntity.ok(taskService.getChanges(since, limit, userId));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageDTO> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} searching tasks", userId);
+        return ResponseEntity.ok(taskService.searchTasks(query, cursor, limit, userId));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @RequestParam(required = false) UUID sprintId,
+            @RequestParam(required = false) UUID assignedToId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} subscribing to task changes", userId);
+        return taskEvents.subscribe(sprintId, assignedToId);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} exporting tasks", userId);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        // Rows are written as they are read; the servlet buffer flushes in chunks instead of per task
+        ObjectWriter writer = objectMapper.writerFor(TaskDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            taskService.exportTasks(task -> {
+                try {
+                    writer.writeValue(generator, task);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, userId);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @GetMapping("/sprint/{sprintId}/stats")
+    public ResponseEntity<List<SprintStatusStatsDTO>> getSprintStats(
+            @PathVariable UUID sprintId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} requesting stats for sprint {}", userId, sprintId);
+        return ResponseEntity.ok(taskService.getSprintStats(sprintId, userId));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<TaskDTO> getTaskById(
             @PathVariable UUID id,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
         UUID userId = UUID.fromString(userDetails.getUsername());
         logger.info("User {} requesting task {}", userId, id);
-        return ResponseEntity.ok(taskService.getTaskById(id, userId));
+
+        String eTag = taskService.getTaskVersion(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(taskService.getTaskById(id, userId));
     }
 
     @PostMapping
@@ -51,6 +158,15 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(taskDTO, userId));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkTaskResultDTO>> createTasks(
+            @RequestBody List<TaskDTO> taskDTOs,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} creating {} tasks in bulk", userId, taskDTOs.size());
+        return ResponseEntity.ok(taskService.createTasks(taskDTOs, userId));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable UUID id,
@@ -62,6 +178,16 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(taskDTO, userId));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskDTO> patchTask(
+            @PathVariable UUID id,
+            @Valid @RequestBody TaskPatchDTO patch,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        logger.info("User {} patching task {}", userId, id);
+        return ResponseEntity.ok(taskService.patchTask(id, patch, userId));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('SCRUM_MASTER') or hasRole('ADMIN') or @taskSecurityService.canDeleteTask(#id, authentication)")
     public ResponseEntity<Void> deleteTask(
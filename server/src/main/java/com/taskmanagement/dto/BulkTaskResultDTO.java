@@ -0,0 +1,60 @@
+package com.taskmanagement.dto;
+
+public class BulkTaskResultDTO {
+    // Position of the item in the submitted list
+    private int index;
+    private boolean created;
+    private TaskDTO task;
+    private String error;
+
+    public BulkTaskResultDTO() {
+    }
+
+    public static BulkTaskResultDTO created(int index, TaskDTO task) {
+        BulkTaskResultDTO result = new BulkTaskResultDTO();
+        result.setIndex(index);
+        result.setCreated(true);
+        result.setTask(task);
+        return result;
+    }
+
+    public static BulkTaskResultDTO failed(int index, String error) {
+        BulkTaskResultDTO result = new BulkTaskResultDTO();
+        result.setIndex(index);
+        result.setCreated(false);
+        result.setError(error);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    public TaskDTO getTask() {
+        return task;
+    }
+
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
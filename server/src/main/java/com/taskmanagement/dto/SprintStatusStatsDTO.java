@@ -0,0 +1,61 @@
+package com.taskmanagement.dto;
+
+import java.util.UUID;
+
+public class SprintStatusStatsDTO {
+    private UUID statusId;
+    private String statusName;
+    private long taskCount;
+    private long storyPoints;
+    private long estimatedHours;
+
+    public SprintStatusStatsDTO() {
+    }
+
+    public SprintStatusStatsDTO(UUID statusId, Long taskCount, Long storyPoints, Long estimatedHours) {
+        this.statusId = statusId;
+        this.taskCount = taskCount;
+        this.storyPoints = storyPoints;
+        this.estimatedHours = estimatedHours;
+    }
+
+    public UUID getStatusId() {
+        return statusId;
+    }
+
+    public void setStatusId(UUID statusId) {
+        this.statusId = statusId;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+
+    public void setStatusName(String statusName) {
+        this.statusName = statusName;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public long getStoryPoints() {
+        return storyPoints;
+    }
+
+    public void setStoryPoints(long storyPoints) {
+        this.storyPoints = storyPoints;
+    }
+
+    public long getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public void setEstimatedHours(long estimatedHours) {
+        this.estimatedHours = estimatedHours;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class TaskChangesDTO {
+    // Created or updated tasks, in change order
+    private List<TaskDTO> upserts;
+
+    // Ids of tasks deleted since the requested watermark
+    private List<UUID> deleted;
+
+    // Opaque position to pass as `since` on the next pull
+    private String watermark;
+
+    // True when more changes are already available past the watermark
+    private boolean more;
+
+    public TaskChangesDTO() {
+    }
+
+    public TaskChangesDTO(List<TaskDTO> upserts, List<UUID> deleted, String watermark, boolean more) {
+        this.upserts = upserts;
+        this.deleted = deleted;
+        this.watermark = watermark;
+        this.more = more;
+    }
+
+    public List<TaskDTO> getUpserts() {
+        return upserts;
+    }
+
+    public void setUpserts(List<TaskDTO> upserts) {
+        this.upserts = upserts;
+    }
+
+    public List<UUID> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<UUID> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isMore() {
+        return more;
+    }
+
+    public void setMore(boolean more) {
+        this.more = more;
+    }
+}
@@ -45,6 +45,9 @@ public class TaskDTO {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
     private ZonedDateTime completedAt;
 
+    // Optimistic lock version; when sent back on an update it must match the stored task
+    private Long version;
+
     // Additional fields for display purposes
     private String assignedToName;
     private String statusName;
@@ -197,4 +200,12 @@ public class TaskDTO {
     public void setSprintName(String sprintName) {
         this.sprintName = sprintName;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,119 @@
+package com.taskmanagement.dto;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+public class TaskEventDTO {
+    // REMOVED goes to subscribers whose filter matched the task before an update but no longer does
+    public enum Type { CREATED, UPDATED, DELETED, REMOVED }
+
+    private Type type;
+    private UUID taskId;
+    private UUID sprintId;
+    private UUID assignedToId;
+
+    // Sprint and assignee before an update, so filtered subscribers learn when a task leaves their view
+    private UUID previousSprintId;
+    private UUID previousAssignedToId;
+
+    // Task state after the change, null for deletions
+    private TaskDTO task;
+
+    private ZonedDateTime occurredAt;
+
+    public TaskEventDTO() {
+    }
+
+    public TaskEventDTO(Type type, UUID taskId, UUID sprintId, UUID assignedToId, TaskDTO task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.sprintId = sprintId;
+        this.assignedToId = assignedToId;
+        this.task = task;
+        this.occurredAt = ZonedDateTime.now();
+    }
+
+    public static TaskEventDTO of(Type type, TaskDTO task) {
+        return new TaskEventDTO(type, task.getId(), task.getSprintId(), task.getAssignedToId(), task);
+    }
+
+    public static TaskEventDTO updated(TaskDTO task, UUID previousSprintId, UUID previousAssignedToId) {
+        TaskEventDTO event = of(Type.UPDATED, task);
+        event.previousSprintId = previousSprintId;
+        event.previousAssignedToId = previousAssignedToId;
+        return event;
+    }
+
+    // The same change as seen by a subscriber the task has moved away from
+    public TaskEventDTO asRemoved() {
+        TaskEventDTO removed = new TaskEventDTO(Type.REMOVED, taskId, sprintId, assignedToId, task);
+        removed.previousSprintId = previousSprintId;
+        removed.previousAssignedToId = previousAssignedToId;
+        removed.occurredAt = occurredAt;
+        return removed;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public UUID getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(UUID sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public UUID getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(UUID assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public UUID getPreviousSprintId() {
+        return previousSprintId;
+    }
+
+    public void setPreviousSprintId(UUID previousSprintId) {
+        this.previousSprintId = previousSprintId;
+    }
+
+    public UUID getPreviousAssignedToId() {
+        return previousAssignedToId;
+    }
+
+    public void setPreviousAssignedToId(UUID previousAssignedToId) {
+        this.previousAssignedToId = previousAssignedToId;
+    }
+
+    public TaskDTO getTask() {
+        return task;
+    }
+
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+
+    public ZonedDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(ZonedDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
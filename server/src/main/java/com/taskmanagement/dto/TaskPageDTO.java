@@ -0,0 +1,34 @@
+package com.taskmanagement.dto;
+
+import java.util.List;
+
+public class TaskPageDTO {
+    private List<TaskDTO> tasks;
+
+    // Opaque cursor for the following page, null when this is the last page
+    private String next;
+
+    public TaskPageDTO() {
+    }
+
+    public TaskPageDTO(List<TaskDTO> tasks, String next) {
+        this.tasks = tasks;
+        this.next = next;
+    }
+
+    public List<TaskDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+}
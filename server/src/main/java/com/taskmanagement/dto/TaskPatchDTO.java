@@ -0,0 +1,140 @@
+package com.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Partial task update: absent fields are left untouched
+public class TaskPatchDTO {
+    // Rejects the patch with 409 unless it matches the stored task
+    private Long version;
+
+    @Pattern(regexp = ".*\\S.*", message = "Title must not be blank")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank")
+    private String description;
+
+    private UUID assignedToId;
+
+    private UUID statusId;
+
+    private UUID priorityId;
+
+    @Min(value = 0, message = "Story points must be a positive number")
+    private Integer storyPoints;
+
+    @Min(value = 0, message = "Estimated hours must be a positive number")
+    private Integer estimatedHours;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ssXXX")
+    private ZonedDateTime dueDate;
+
+    // Epic and sprint may be cleared with an explicit null, so presence is tracked separately
+    private UUID epicId;
+    private boolean epicIdSet;
+
+    private UUID sprintId;
+    private boolean sprintIdSet;
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public UUID getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(UUID assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public UUID getStatusId() {
+        return statusId;
+    }
+
+    public void setStatusId(UUID statusId) {
+        this.statusId = statusId;
+    }
+
+    public UUID getPriorityId() {
+        return priorityId;
+    }
+
+    public void setPriorityId(UUID priorityId) {
+        this.priorityId = priorityId;
+    }
+
+    public Integer getStoryPoints() {
+        return storyPoints;
+    }
+
+    public void setStoryPoints(Integer storyPoints) {
+        this.storyPoints = storyPoints;
+    }
+
+    public Integer getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public void setEstimatedHours(Integer estimatedHours) {
+        this.estimatedHours = estimatedHours;
+    }
+
+    public ZonedDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(ZonedDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public UUID getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(UUID epicId) {
+        this.epicId = epicId;
+        this.epicIdSet = true;
+    }
+
+    public boolean hasEpicId() {
+        return epicIdSet;
+    }
+
+    public UUID getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(UUID sprintId) {
+        this.sprintId = sprintId;
+        this.sprintIdSet = true;
+    }
+
+    public boolean hasSprintId() {
+        return sprintIdSet;
+    }
+}
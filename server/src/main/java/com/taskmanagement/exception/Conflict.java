@@ -0,0 +1,11 @@
+package com.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class Conflict extends RuntimeException {
+    public Conflict(String message) {
+        super(message);
+    }
+}
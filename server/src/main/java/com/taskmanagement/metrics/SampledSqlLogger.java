@@ -0,0 +1,42 @@
+package com.taskmanagement.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Logs a random sample of executed SQL plus every slow statement, as a cheap replacement for show-sql
+public class SampledSqlLogger implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.taskmanagement.sql");
+
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+
+    public SampledSqlLogger(double sampleRate, long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= slowThresholdMillis) {
+            logger.warn("Slow SQL ({} ms, batch {}): {}", elapsed, execInfo.getBatchSize(), sql(queryInfoList));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && logger.isInfoEnabled()) {
+            logger.info("Sampled SQL ({} ms, batch {}): {}", elapsed, execInfo.getBatchSize(), sql(queryInfoList));
+        }
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskmanagement.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Counts JDBC statements and their execution time on the current thread while a count is active.
+// Fed by the DataSource proxy, so it sees every statement regardless of how it was issued.
+public class StatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public static void start() {
+        CURRENT.set(new Counts());
+    }
+
+    // Returns what was executed since start(), or empty counts if none was active
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+            counts.record(sql, execInfo.getElapsedTime());
+        }
+    }
+
+    public static final class Counts {
+        private int statements;
+        private long jdbcMillis;
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+
+        private void record(String sql, long elapsedMillis) {
+            statements++;
+            jdbcMillis += elapsedMillis;
+            executions.merge(sql, 1, Integer::sum);
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getJdbcMillis() {
+            return jdbcMillis;
+        }
+
+        // Executions per distinct SQL string, in first-seen order
+        public Map<String, Integer> getExecutions() {
+            return Collections.unmodifiableMap(executions);
+        }
+
+        // The statement run most often, the usual signature of an N+1 pattern
+        public Map.Entry<String, Integer> getMostRepeated() {
+            Map.Entry<String, Integer> most = null;
+            for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+                if (most == null || entry.getValue() > most.getValue()) {
+                    most = entry;
+                }
+            }
+            return most;
+        }
+    }
+}
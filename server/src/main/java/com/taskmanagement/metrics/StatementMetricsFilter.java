@@ -0,0 +1,88 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Records how many SQL statements each request issued and how long they took, tagged like http.server.requests,
+// and flags requests that blow the statement budget or repeat one statement often enough to suggest N+1 loading
+@Component
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final int repeatThreshold;
+
+    public StatementMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.statements.budget:20}") int budget,
+            @Value("${metrics.statements.repeat-threshold:5}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StatementCounter.Counts counts = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            record(request.getMethod(), uri, counts);
+        }
+    }
+
+    private void record(String method, String uri, StatementCounter.Counts counts) {
+        DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements executed while handling a request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(counts.getStatements());
+        Timer.builder("jdbc.time.per.request")
+                .description("Time spent executing SQL while handling a request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getJdbcMillis(), TimeUnit.MILLISECONDS);
+
+        if (counts.getStatements() > budget) {
+            Counter.builder("hibernate.statements.budget.exceeded")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} {} executed {} statements (budget {}) in {} ms of JDBC time",
+                    method, uri, counts.getStatements(), budget, counts.getJdbcMillis());
+        }
+
+        Map.Entry<String, Integer> repeated = counts.getMostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            logger.warn("{} {} ran the same statement {} times, possible N+1 query: {}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.taskmanagement.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "epics")
 @Table(name = "epics")
 public class Epic {
    @Id
@@ -40,7 +44,7 @@ public class Epic {
 
    @PrePersist
    protected void onCreate() {
-      id = UUID.randomUUID();
+      id = TimeOrderedUuid.generate();
       createdAt = updatedAt = ZonedDateTime.now();
    }
 
@@ -1,10 +1,14 @@
 package com.taskmanagement.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprints")
 @Table(name = "sprints")
 public class Sprint {
     @Id
@@ -40,7 +44,7 @@ public class Sprint {
 
     @PrePersist
     protected void onCreate() {
-        id = UUID.randomUUID();
+        id = TimeOrderedUuid.generate();
         createdAt = updatedAt = ZonedDateTime.now();
     }
 
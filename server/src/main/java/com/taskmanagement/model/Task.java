@@ -58,9 +58,17 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private ZonedDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // Commit-ordered change sequence for delta sync, assigned by a database trigger on every insert and update
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @PrePersist
     protected void onCreate() {
-        id = UUID.randomUUID();
+        id = TimeOrderedUuid.generate();
         createdAt = updatedAt = ZonedDateTime.now();
     }
 
@@ -190,4 +198,20 @@ public class Task {
     public void setUpdatedAt(ZonedDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+}
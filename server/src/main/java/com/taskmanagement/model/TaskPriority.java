@@ -1,10 +1,14 @@
 package com.taskmanagement.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-priorities")
 @Table(name = "task_priorities")
 public class TaskPriority {
     @Id
@@ -0,0 +1,74 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "task_tombstones")
+public class TaskTombstone implements Persistable<UUID> {
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private ZonedDateTime deletedAt;
+
+    // Drawn from the same sequence as task changes by a database trigger on insert
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // The id is assigned, so without this save() would merge and SELECT first; tombstones are only ever inserted
+    @Transient
+    private boolean isNew = true;
+
+    public TaskTombstone() {
+    }
+
+    public TaskTombstone(UUID taskId, ZonedDateTime deletedAt) {
+        this.taskId = taskId;
+        this.deletedAt = deletedAt;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public ZonedDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(ZonedDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    @Override
+    public UUID getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Generates RFC 9562 version 7 UUIDs: a 48-bit millisecond timestamp followed by a 12-bit
+// sequence and 62 random bits. Ids created later sort later, so inserts append to the right
+// edge of primary key and foreign key B-tree indexes instead of splitting random pages.
+public final class TimeOrderedUuid {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastMillis;
+    private static int sequence;
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID generate() {
+        long millis;
+        int seq;
+        synchronized (TimeOrderedUuid.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Random start leaves headroom for the sequence while keeping ids hard to guess
+                sequence = ThreadLocalRandom.current().nextInt(MAX_SEQUENCE / 2);
+            } else if (sequence < MAX_SEQUENCE) {
+                // Same millisecond, or the clock stepped backwards: keep counting from the last id
+                sequence++;
+            } else {
+                // Sequence exhausted within one millisecond: borrow the next one
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+
+        long mostSignificant = (millis << 16) | 0x7000L | seq;
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
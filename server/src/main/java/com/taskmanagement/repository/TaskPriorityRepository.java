@@ -1,5 +1,6 @@
 package com.taskmanagement.repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,5 +10,5 @@ import com.taskmanagement.model.TaskPriority;
 
 @Repository
 public interface TaskPriorityRepository extends JpaRepository<TaskPriority, UUID> {
-    // Query methods will be implemented later
+    Optional<TaskPriority> findByName(String name);
 }
\ No newline at end of file
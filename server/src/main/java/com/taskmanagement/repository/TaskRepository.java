@@ -1,13 +1,107 @@
 package com.taskmanagement.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.taskmanagement.dto.SprintStatusStatsDTO;
 import com.taskmanagement.model.Task;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    // Query methods will be implemented later
-}
\ No newline at end of file
+    // Selects every column TaskDTO needs in one statement, without materialising the entity graph
+    String TASK_VIEW_SELECT = "SELECT new com.taskmanagement.repository.TaskView(" +
+            "t.id, t.title, t.description, t.storyPoints, t.estimatedHours, " +
+            "t.dueDate, t.completedAt, t.createdAt, t.updatedAt, t.version, t.changeSeq, " +
+            "t.createdBy.id, a.id, a.name, s.id, s.name, p.id, p.name, e.id, e.name, sp.id, sp.name) " +
+            "FROM Task t " +
+            "JOIN t.assignedTo a " +
+            "JOIN t.status s " +
+            "JOIN t.priority p " +
+            "LEFT JOIN t.epic e " +
+            "LEFT JOIN t.sprint sp ";
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") UUID id);
+
+    // Changes in commit order, up to a horizon below which every writing transaction has finished
+    @Query(TASK_VIEW_SELECT +
+           "WHERE t.changeSeq > :since AND t.changeSeq <= :horizon " +
+           "ORDER BY t.changeSeq ASC")
+    List<TaskView> findChangesAfter(
+            @Param("since") long since,
+            @Param("horizon") long horizon,
+            Pageable pageable);
+
+    // See task_change_horizon() in V7__Add_task_change_sequence.sql
+    @Query(value = "SELECT task_change_horizon()", nativeQuery = true)
+    long findChangeHorizon();
+
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<ZonedDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query(TASK_VIEW_SELECT + "WHERE t.id IN :ids")
+    List<TaskView> findViewsByIds(@Param("ids") Collection<UUID> ids);
+
+    // First page of tasks in keyset order
+    @Query(TASK_VIEW_SELECT + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskView> findFirstPage(Pageable pageable);
+
+    // Page of tasks strictly after the given (createdAt, id) position; the row-value comparison lets
+    // Postgres start the range scan on idx_tasks_created_at_id instead of filtering from its first entry
+    @Query(TASK_VIEW_SELECT +
+           "WHERE (t.createdAt, t.id) > (:createdAt, :id) " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskView> findPageAfter(
+            @Param("createdAt") ZonedDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    // Forward-only cursor over every task for exports; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_VIEW_SELECT + "ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskView> streamAll();
+
+    // Task count and effort totals per status for a sprint, aggregated in one statement
+    @Query("SELECT new com.taskmanagement.dto.SprintStatusStatsDTO(" +
+           "t.status.id, COUNT(t), SUM(t.storyPoints), SUM(t.estimatedHours)) " +
+           "FROM Task t WHERE t.sprint.id = :sprintId GROUP BY t.status.id")
+    List<SprintStatusStatsDTO> sumBySprintGroupedByStatus(@Param("sprintId") UUID sprintId);
+
+    // Ranked full-text match against the GIN-indexed search_vector column (Postgres only)
+    @Query(value = "SELECT t.id FROM tasks t, websearch_to_tsquery('english', :query) q " +
+                   "WHERE t.search_vector @@ q " +
+                   "ORDER BY ts_rank(t.search_vector, q) DESC, t.id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<UUID> searchIdsFullText(
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") int offset);
+
+    // Portable substring fallback for databases without full-text search, ranking title matches first
+    @Query("SELECT t.id FROM Task t " +
+           "WHERE lower(t.title) LIKE lower(concat('%', :query, '%')) " +
+           "OR lower(t.description) LIKE lower(concat('%', :query, '%')) " +
+           "ORDER BY CASE WHEN lower(t.title) LIKE lower(concat('%', :query, '%')) THEN 0 ELSE 1 END, " +
+           "t.createdAt DESC, t.id")
+    List<UUID> searchIdsLike(@Param("query") String query, Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.taskmanagement.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.taskmanagement.model.TaskTombstone;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+
+    @Query("SELECT d FROM TaskTombstone d " +
+           "WHERE d.changeSeq > :since AND d.changeSeq <= :horizon " +
+           "ORDER BY d.changeSeq ASC")
+    List<TaskTombstone> findChangesAfter(
+            @Param("since") long since,
+            @Param("horizon") long horizon,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone d WHERE d.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") ZonedDateTime cutoff);
+}
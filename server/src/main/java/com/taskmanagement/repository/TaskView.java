@@ -0,0 +1,165 @@
+package com.taskmanagement.repository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// Flat read model for tasks, populated by a single joined query instead of loading the entity graph
+public class TaskView {
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final int storyPoints;
+    private final int estimatedHours;
+    private final ZonedDateTime dueDate;
+    private final ZonedDateTime completedAt;
+    private final ZonedDateTime createdAt;
+    private final ZonedDateTime updatedAt;
+    private final long version;
+    private final Long changeSeq;
+    private final UUID createdById;
+    private final UUID assignedToId;
+    private final String assignedToName;
+    private final UUID statusId;
+    private final String statusName;
+    private final UUID priorityId;
+    private final String priorityName;
+    private final UUID epicId;
+    private final String epicName;
+    private final UUID sprintId;
+    private final String sprintName;
+
+    public TaskView(
+            UUID id,
+            String title,
+            String description,
+            int storyPoints,
+            int estimatedHours,
+            ZonedDateTime dueDate,
+            ZonedDateTime completedAt,
+            ZonedDateTime createdAt,
+            ZonedDateTime updatedAt,
+            long version,
+            Long changeSeq,
+            UUID createdById,
+            UUID assignedToId,
+            String assignedToName,
+            UUID statusId,
+            String statusName,
+            UUID priorityId,
+            String priorityName,
+            UUID epicId,
+            String epicName,
+            UUID sprintId,
+            String sprintName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.storyPoints = storyPoints;
+        this.estimatedHours = estimatedHours;
+        this.dueDate = dueDate;
+        this.completedAt = completedAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.changeSeq = changeSeq;
+        this.createdById = createdById;
+        this.assignedToId = assignedToId;
+        this.assignedToName = assignedToName;
+        this.statusId = statusId;
+        this.statusName = statusName;
+        this.priorityId = priorityId;
+        this.priorityName = priorityName;
+        this.epicId = epicId;
+        this.epicName = epicName;
+        this.sprintId = sprintId;
+        this.sprintName = sprintName;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getStoryPoints() {
+        return storyPoints;
+    }
+
+    public int getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public ZonedDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public ZonedDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ZonedDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public UUID getCreatedById() {
+        return createdById;
+    }
+
+    public UUID getAssignedToId() {
+        return assignedToId;
+    }
+
+    public String getAssignedToName() {
+        return assignedToName;
+    }
+
+    public UUID getStatusId() {
+        return statusId;
+    }
+
+    public String getStatusName() {
+        return statusName;
+    }
+
+    public UUID getPriorityId() {
+        return priorityId;
+    }
+
+    public String getPriorityName() {
+        return priorityName;
+    }
+
+    public UUID getEpicId() {
+        return epicId;
+    }
+
+    public String getEpicName() {
+        return epicName;
+    }
+
+    public UUID getSprintId() {
+        return sprintId;
+    }
+
+    public String getSprintName() {
+        return sprintName;
+    }
+}
@@ -3,13 +3,25 @@ package com.taskmanagement.repository;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.taskmanagement.model.User;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+
+    // Every login looks users up by Google id, so the result is kept in the query cache
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "user-queries")
+    })
     Optional<User> findByGoogleId(String googleId);
 }
\ No newline at end of file
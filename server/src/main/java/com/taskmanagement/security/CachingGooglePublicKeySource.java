@@ -0,0 +1,154 @@
+package com.taskmanagement.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Fetches Google's signing certificates over HTTP and keeps them in memory for as long as the
+// response's Cache-Control max-age allows, refreshing in the background before they expire so
+// token verification normally never waits on the network.
+public class CachingGooglePublicKeySource implements GooglePublicKeySource, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingGooglePublicKeySource.class);
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI certificatesUri;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+
+    private volatile CachedKeys cached;
+    private ScheduledFuture<?> nextRefresh;
+
+    public CachingGooglePublicKeySource(URI certificatesUri) {
+        this(certificatesUri, HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build(), Clock.systemUTC());
+    }
+
+    CachingGooglePublicKeySource(URI certificatesUri, HttpClient httpClient, Clock clock) {
+        this.certificatesUri = certificatesUri;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "google-keys-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Warm the cache so the first login does not pay for the fetch
+        refresher.execute(this::backgroundRefresh);
+    }
+
+    @Override
+    public Map<String, PublicKey> getPublicKeys() throws IOException, GeneralSecurityException {
+        CachedKeys current = cached;
+        if (current != null && current.expiresAtMillis > clock.millis()) {
+            return current.keys;
+        }
+        try {
+            return fetch(false).keys;
+        } catch (IOException e) {
+            if (current == null) {
+                throw e;
+            }
+            // Google keys rotate slowly; keep verifying with the last good set while the endpoint is unreachable
+            logger.warn("Using expired Google signing keys after refresh failure: {}", e.getMessage());
+            return current.keys;
+        }
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private synchronized CachedKeys fetch(boolean force) throws IOException, GeneralSecurityException {
+        // Another thread may have refreshed while we waited for the lock
+        CachedKeys current = cached;
+        if (!force && current != null && current.expiresAtMillis > clock.millis()) {
+            return current;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(certificatesUri).timeout(REQUEST_TIMEOUT).GET().build();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching Google certificates", e);
+        }
+
+        Map<String, PublicKey> keys;
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Unexpected status " + response.statusCode() + " fetching Google certificates");
+            }
+            keys = GoogleCertificates.parse(body);
+        }
+
+        Duration ttl = response.headers().firstValue("Cache-Control")
+                .map(CachingGooglePublicKeySource::maxAge)
+                .orElse(DEFAULT_TTL);
+        CachedKeys fetched = new CachedKeys(keys, clock.millis() + ttl.toMillis());
+        cached = fetched;
+        // Refresh at 80% of the lifetime so live keys are replaced before callers see them expire
+        scheduleRefresh(Math.max(ttl.toMillis() * 4 / 5, RETRY_DELAY.toMillis()));
+
+        logger.debug("Fetched {} Google signing keys, cached for {}", keys.size(), ttl);
+        return fetched;
+    }
+
+    private void backgroundRefresh() {
+        try {
+            fetch(true);
+        } catch (IOException | GeneralSecurityException e) {
+            logger.warn("Failed to refresh Google signing keys, retrying in {}: {}", RETRY_DELAY, e.getMessage());
+            scheduleRefresh(RETRY_DELAY.toMillis());
+        }
+    }
+
+    private synchronized void scheduleRefresh(long delayMillis) {
+        if (refresher.isShutdown()) {
+            return;
+        }
+        // Keep a single pending refresh even when callers also fetch synchronously
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+        nextRefresh = refresher.schedule(this::backgroundRefresh, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static Duration maxAge(String cacheControl) {
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_TTL;
+    }
+
+    private static final class CachedKeys {
+        private final Map<String, PublicKey> keys;
+        private final long expiresAtMillis;
+
+        private CachedKeys(Map<String, PublicKey> keys, long expiresAtMillis) {
+            this.keys = keys;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+
+// Reads Google-format certificates from a local file, for tests and offline environments
+public class FileGooglePublicKeySource implements GooglePublicKeySource {
+
+    private final Path certificatesFile;
+    private volatile Map<String, PublicKey> keys;
+
+    public FileGooglePublicKeySource(Path certificatesFile) {
+        this.certificatesFile = certificatesFile;
+    }
+
+    @Override
+    public Map<String, PublicKey> getPublicKeys() throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> loaded = keys;
+        if (loaded == null) {
+            try (InputStream in = Files.newInputStream(certificatesFile)) {
+                loaded = GoogleCertificates.parse(in);
+            }
+            keys = loaded;
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Map;
+
+// Parses Google's PEM certificate document ({"kid": "-----BEGIN CERTIFICATE-----..."}) into public keys
+final class GoogleCertificates {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GoogleCertificates() {
+    }
+
+    static Map<String, PublicKey> parse(InputStream json) throws IOException, GeneralSecurityException {
+        Map<String, String> certificates = objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+        CertificateFactory factory = CertificateFactory.getInstance("X.509");
+
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Map.Entry<String, String> certificate : certificates.entrySet()) {
+            X509Certificate x509 = (X509Certificate) factory.generateCertificate(
+                    new ByteArrayInputStream(certificate.getValue().getBytes(StandardCharsets.UTF_8)));
+            keys.put(certificate.getKey(), x509.getPublicKey());
+        }
+        return Map.copyOf(keys);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanagement.security;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+
+// Supplies the public keys used to check Google ID token signatures, keyed by key id (the JWT "kid" header)
+public interface GooglePublicKeySource {
+    Map<String, PublicKey> getPublicKeys() throws IOException, GeneralSecurityException;
+}
@@ -2,8 +2,7 @@ package com.taskmanagement.security;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken.Payload;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +11,10 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Collections;
+import java.security.PublicKey;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -20,19 +22,25 @@ import java.util.Optional;
 public class GoogleTokenVerifier {
     private static final Logger logger = LoggerFactory.getLogger(GoogleTokenVerifier.class);
 
-    private final GoogleIdTokenVerifier verifier;
+    private static final Collection<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long ACCEPTABLE_TIME_SKEW_SECONDS = 300;
 
-    public GoogleTokenVerifier(@Value("${security.oauth2.google.client-id}") String clientId) {
-        this.verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
-                .setAudience(Collections.singletonList(clientId))
-                .build();
+    private final JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    private final Collection<String> audience;
+    private final GooglePublicKeySource keySource;
+
+    public GoogleTokenVerifier(
+            @Value("${security.oauth2.google.client-id}") String clientId,
+            GooglePublicKeySource keySource) {
+        this.audience = List.of(clientId);
+        this.keySource = keySource;
         logger.info("GoogleTokenVerifier initialized with client ID: {}", clientId);
     }
 
     public Optional<GoogleUserInfo> verify(String idTokenString) {
         try {
-            GoogleIdToken idToken = verifier.verify(idTokenString);
-            if (idToken != null) {
+            GoogleIdToken idToken = GoogleIdToken.parse(jsonFactory, idTokenString);
+            if (isValid(idToken)) {
                 Payload payload = idToken.getPayload();
 
                 GoogleUserInfo userInfo = new GoogleUserInfo(
@@ -48,12 +56,37 @@ public class GoogleTokenVerifier {
                 logger.warn("Invalid Google ID token provided");
                 return Optional.empty();
             }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Malformed Google ID token provided");
+            return Optional.empty();
         } catch (GeneralSecurityException | IOException e) {
             logger.error("Error verifying Google token", e);
             return Optional.empty();
         }
     }
 
+    // Same checks as GoogleIdTokenVerifier, but signatures are verified against locally cached keys
+    private boolean isValid(GoogleIdToken idToken) throws GeneralSecurityException, IOException {
+        if (!idToken.verifyAudience(audience)
+                || !idToken.verifyIssuer(ISSUERS)
+                || !idToken.verifyTime(System.currentTimeMillis(), ACCEPTABLE_TIME_SKEW_SECONDS)) {
+            return false;
+        }
+
+        Map<String, PublicKey> keys = keySource.getPublicKeys();
+        String keyId = idToken.getHeader().getKeyId();
+        PublicKey key = keyId != null ? keys.get(keyId) : null;
+        if (key != null) {
+            return idToken.verifySignature(key);
+        }
+        for (PublicKey candidate : keys.values()) {
+            if (idToken.verifySignature(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static class GoogleUserInfo {
         private final String googleId;
         private final String email;
@@ -1,6 +1,8 @@
 package com.taskmanagement.security;
 
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +19,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -27,13 +31,26 @@ public class JWTTokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long tokenValidityInMilliseconds;
+    private final VerifiedTokenCache verifiedTokens;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
 
     public JWTTokenProvider(
             @Value("${security.jwt.secret:supersecretkeysupersecretkeysupersecretkeysupersecretkey}") String secret,
-            @Value("${security.jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds) {
+            @Value("${security.jwt.token-validity-in-seconds:86400}") long tokenValidityInSeconds,
+            @Value("${security.jwt.verified-cache-size:10000}") int verifiedCacheSize,
+            MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe once built, so one instance serves every request
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.verifiedTimer = verifyTimer(meterRegistry, "verified");
+        this.rejectedTimer = verifyTimer(meterRegistry, "rejected");
         logger.info("JWTTokenProvider initialized with token validity of {} seconds", tokenValidityInSeconds);
     }
 
@@ -52,27 +69,40 @@ public class JWTTokenProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Parses and verifies the token once, reusing a cached result for tokens seen before
+    public Optional<Authentication> authenticate(String token) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        Authentication cached = verifiedTokens.get(token, now);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .filter(auth -> !auth.trim().isEmpty())
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
 
-        User principal = new User(claims.getSubject(), "", authorities);
+        Authentication authentication = toAuthentication(claims, token);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, authentication, claims.getExpiration().getTime(), now);
+        }
+        verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return Optional.of(authentication);
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    public Authentication getAuthentication(String token) {
+        return toAuthentication(parser.parseClaimsJws(token).getBody(), token);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
@@ -81,22 +111,34 @@ public class JWTTokenProvider {
     }
 
     public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         return UUID.fromString(claims.getSubject());
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         return claims.get("email", String.class);
     }
-}
\ No newline at end of file
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("security.jwt.verify")
+                .description("Time to authenticate a bearer token")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Authentication toAuthentication(Claims claims, String token) {
+        Collection<? extends GrantedAuthority> authorities =
+                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                        .filter(auth -> !auth.trim().isEmpty())
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+}
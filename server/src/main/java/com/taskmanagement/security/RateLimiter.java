@@ -0,0 +1,99 @@
+package com.taskmanagement.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Per-user token buckets implemented with the generic cell rate algorithm: each bucket is a single
+// "theoretical arrival time" advanced with CAS, which admits `capacity` requests in a burst and then
+// one request per refill interval, without locks or a background refill thread
+@Component
+public class RateLimiter {
+
+    public enum Group { READ, WRITE, HEAVY }
+
+    private final boolean enabled;
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> rejections = new EnumMap<>(Group.class);
+    private final ConcurrentHashMap<String, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+    // nanoTime has an arbitrary origin, so times are kept relative to construction to stay non-negative
+    private final long origin = System.nanoTime();
+
+    public RateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.read.capacity:100}") int readCapacity,
+            @Value("${rate-limit.read.refill-per-second:20}") double readRefill,
+            @Value("${rate-limit.write.capacity:30}") int writeCapacity,
+            @Value("${rate-limit.write.refill-per-second:5}") double writeRefill,
+            @Value("${rate-limit.heavy.capacity:5}") int heavyCapacity,
+            @Value("${rate-limit.heavy.refill-per-second:0.2}") double heavyRefill,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        limits.put(Group.READ, new Limit(readCapacity, readRefill));
+        limits.put(Group.WRITE, new Limit(writeCapacity, writeRefill));
+        limits.put(Group.HEAVY, new Limit(heavyCapacity, heavyRefill));
+        for (Group group : Group.values()) {
+            rejections.put(group, Counter.builder("rate.limit.rejections")
+                    .description("Requests rejected with 429 by the per-user rate limiter")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // Returns 0 if the request may proceed, otherwise the nanoseconds until it would be admitted
+    public long tryAcquire(String userId, Group group) {
+        if (!enabled) {
+            return 0;
+        }
+        Limit limit = limits.get(group);
+        AtomicLongArray bucket = buckets.computeIfAbsent(userId, key -> new AtomicLongArray(Group.values().length));
+        int slot = group.ordinal();
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long arrival = bucket.get(slot);
+            long start = Math.max(arrival, now);
+            long wait = start - now - limit.burstNanos;
+            if (wait > 0) {
+                rejections.get(group).increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(slot, arrival, start + limit.intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Buckets that have fully refilled carry no state worth keeping; a user racing the sweep at worst
+    // starts again from a full bucket
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime() - origin;
+        buckets.values().removeIf(bucket -> {
+            for (int i = 0; i < bucket.length(); i++) {
+                if (bucket.get(i) > now) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static final class Limit {
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        private Limit(int capacity, double refillPerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+            this.burstNanos = (Math.max(capacity, 1) - 1) * intervalNanos;
+        }
+    }
+}
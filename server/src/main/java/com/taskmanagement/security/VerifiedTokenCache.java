@@ -0,0 +1,68 @@
+package com.taskmanagement.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded map of already verified tokens to their Authentication, keyed by a SHA-256 of the token
+// so raw bearer tokens are never held as keys. Entries expire at the token's own exp claim.
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Authentication get(String token, long nowMillis) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.authentication;
+    }
+
+    void put(String token, Authentication authentication, long expiresAtMillis, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAtMillis <= nowMillis);
+            if (entries.size() >= maxSize) {
+                // Still full of live tokens: skip caching rather than grow without bound
+                return;
+            }
+        }
+        entries.put(hash(token), new Entry(authentication, expiresAtMillis));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final Authentication authentication;
+        private final long expiresAtMillis;
+
+        private Entry(Authentication authentication, long expiresAtMillis) {
+            this.authentication = authentication;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.dto.AuthResponseDTO;
 import com.taskmanagement.model.Role;
+import com.taskmanagement.model.TimeOrderedUuid;
 import com.taskmanagement.model.User;
-import com.taskmanagement.repository.RoleRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.security.GoogleTokenVerifier;
 import com.taskmanagement.security.JWTTokenProvider;
@@ -15,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class AuthService {
@@ -25,17 +24,17 @@ public class AuthService {
     private final GoogleTokenVerifier googleTokenVerifier;
     private final JWTTokenProvider tokenProvider;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataCache referenceData;
 
     public AuthService(
             GoogleTokenVerifier googleTokenVerifier,
             JWTTokenProvider tokenProvider,
             UserRepository userRepository,
-            RoleRepository roleRepository) {
+            ReferenceDataCache referenceData) {
         this.googleTokenVerifier = googleTokenVerifier;
         this.tokenProvider = tokenProvider;
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.referenceData = referenceData;
     }
 
     @Transactional
@@ -61,11 +60,11 @@ public class AuthService {
         logger.info("Creating new user for Google account: {}", googleUserInfo.getEmail());
 
         // Get the default role (DEVELOPER)
-        Role defaultRole = roleRepository.findByName("DEVELOPER")
+        Role defaultRole = referenceData.findRoleByName("DEVELOPER")
                 .orElseThrow(() -> new IllegalStateException("Default role not found"));
 
         User newUser = new User();
-        newUser.setId(UUID.randomUUID());
+        newUser.setId(TimeOrderedUuid.generate());
         newUser.setGoogleId(googleUserInfo.getGoogleId());
         newUser.setEmail(googleUserInfo.getEmail());
 
@@ -0,0 +1,48 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exception.Gone;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+// Position in the task change sequence plus the time the client's view was last known complete,
+// encoded as an opaque URL-safe string
+final class ChangeWatermark {
+
+    private final long sequence;
+    private final Instant issuedAt;
+
+    private ChangeWatermark(long sequence, Instant issuedAt) {
+        this.sequence = sequence;
+        this.issuedAt = issuedAt;
+    }
+
+    static String encode(long sequence, Instant issuedAt) {
+        String raw = "s" + sequence + ":" + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Anything unreadable, including watermarks from the earlier timestamp-based feed, means a full reload
+    static ChangeWatermark decode(String watermark) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            if (!raw.startsWith("s")) {
+                throw new IllegalArgumentException(raw);
+            }
+            String[] parts = raw.substring(1).split(":", 2);
+            return new ChangeWatermark(Long.parseLong(parts[0]), Instant.ofEpochSecond(Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new Gone("Unrecognised watermark; reload all tasks");
+        }
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Instant getIssuedAt() {
+        return issuedAt;
+    }
+}
@@ -0,0 +1,178 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.Role;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.RoleRepository;
+import com.taskmanagement.repository.TaskPriorityRepository;
+import com.taskmanagement.repository.TaskStatusRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Read-through cache for the small, rarely changing lookup tables seeded by V2__Insert_default_data.sql
+@Component
+public class ReferenceDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private final TaskStatusRepository statusRepository;
+    private final TaskPriorityRepository priorityRepository;
+    private final RoleRepository roleRepository;
+
+    private final Lookup<TaskStatus> statuses;
+    private final Lookup<TaskPriority> priorities;
+    private final Lookup<Role> roles;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ReferenceDataCache(
+            TaskStatusRepository statusRepository,
+            TaskPriorityRepository priorityRepository,
+            RoleRepository roleRepository) {
+        this.statusRepository = statusRepository;
+        this.priorityRepository = priorityRepository;
+        this.roleRepository = roleRepository;
+        this.statuses = new Lookup<>(TaskStatus::getId, TaskStatus::getName,
+                statusRepository::findById, statusRepository::findByName);
+        this.priorities = new Lookup<>(TaskPriority::getId, TaskPriority::getName,
+                priorityRepository::findById, priorityRepository::findByName);
+        this.roles = new Lookup<>(Role::getId, Role::getName,
+                roleRepository::findById, roleRepository::findByName);
+    }
+
+    // Reloads everything at startup and periodically so rows changed directly in the database are picked up
+    @PostConstruct
+    @Scheduled(
+            initialDelayString = "${reference-data.refresh-interval-ms:300000}",
+            fixedDelayString = "${reference-data.refresh-interval-ms:300000}")
+    public void refresh() {
+        statuses.replaceAll(statusRepository.findAll());
+        priorities.replaceAll(priorityRepository.findAll());
+        roles.replaceAll(roleRepository.findAll());
+        logger.debug("Reference data refreshed (hits: {}, misses: {})", getHitCount(), getMissCount());
+    }
+
+    public Optional<TaskStatus> findStatusById(UUID id) {
+        return statuses.byId(id);
+    }
+
+    public Optional<TaskStatus> findStatusByName(String name) {
+        return statuses.byName(name);
+    }
+
+    public List<TaskStatus> findAllStatuses() {
+        List<TaskStatus> all = new ArrayList<>(statuses.all());
+        all.sort(Comparator.comparingInt(TaskStatus::getDisplayOrder));
+        return all;
+    }
+
+    public Optional<TaskPriority> findPriorityById(UUID id) {
+        return priorities.byId(id);
+    }
+
+    public Optional<TaskPriority> findPriorityByName(String name) {
+        return priorities.byName(name);
+    }
+
+    public Optional<Role> findRoleById(UUID id) {
+        return roles.byId(id);
+    }
+
+    public Optional<Role> findRoleByName(String name) {
+        return roles.byName(name);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private final class Lookup<T> {
+        private final Function<T, UUID> idOf;
+        private final Function<T, String> nameOf;
+        private final Function<UUID, Optional<T>> loadById;
+        private final Function<String, Optional<T>> loadByName;
+
+        private volatile Map<UUID, T> byId = new ConcurrentHashMap<>();
+        private volatile Map<String, T> byName = new ConcurrentHashMap<>();
+
+        private Lookup(
+                Function<T, UUID> idOf,
+                Function<T, String> nameOf,
+                Function<UUID, Optional<T>> loadById,
+                Function<String, Optional<T>> loadByName) {
+            this.idOf = idOf;
+            this.nameOf = nameOf;
+            this.loadById = loadById;
+            this.loadByName = loadByName;
+        }
+
+        Optional<T> byId(UUID id) {
+            if (id == null) {
+                return Optional.empty();
+            }
+            T cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            Optional<T> loaded = loadById.apply(id);
+            loaded.ifPresent(this::put);
+            return loaded;
+        }
+
+        Optional<T> byName(String name) {
+            if (name == null) {
+                return Optional.empty();
+            }
+            T cached = byName.get(name);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            Optional<T> loaded = loadByName.apply(name);
+            loaded.ifPresent(this::put);
+            return loaded;
+        }
+
+        Collection<T> all() {
+            return byId.values();
+        }
+
+        void replaceAll(List<T> values) {
+            Map<UUID, T> ids = new ConcurrentHashMap<>();
+            Map<String, T> names = new ConcurrentHashMap<>();
+            for (T value : values) {
+                ids.put(idOf.apply(value), value);
+                names.put(nameOf.apply(value), value);
+            }
+            byId = ids;
+            byName = names;
+        }
+
+        private void put(T value) {
+            byId.put(idOf.apply(value), value);
+            byName.put(nameOf.apply(value), value);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exception.BadRequest;
+import com.taskmanagement.repository.TaskView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// Keyset position in a (timestamp, id) ordering of tasks, encoded as an opaque URL-safe string
+final class TaskCursor {
+
+    private final ZonedDateTime timestamp;
+    private final UUID id;
+
+    private TaskCursor(ZonedDateTime timestamp, UUID id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    static String encode(TaskView task) {
+        return encode(task.getCreatedAt(), task.getId());
+    }
+
+    static String encode(ZonedDateTime timestamp, UUID id) {
+        Instant instant = timestamp.toInstant();
+        String raw = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            Instant timestamp = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TaskCursor(timestamp.atZone(ZoneOffset.UTC), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new BadRequest("Invalid cursor: " + cursor);
+        }
+    }
+
+    ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    UUID getId() {
+        return id;
+    }
+}
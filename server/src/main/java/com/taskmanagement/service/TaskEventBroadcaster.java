@@ -0,0 +1,211 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.TaskEventDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans committed task changes out to SSE subscribers without letting a slow client hold up the others
+@Component
+public class TaskEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final ExecutorService sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public TaskEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+            @Value("${tasks.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${tasks.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(UUID sprintId, UUID assignedToId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, sprintId, assignedToId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        // End a timed-out stream normally so clients reconnect, instead of the default 503
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Only committed changes are published, so subscribers never see a rolled-back write
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskEvent(TaskEventDTO event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        // Serialize once for every subscriber instead of once per connection
+        Set<DataWithMediaType> message = serialize(event);
+        if (message == null) {
+            return;
+        }
+
+        Set<DataWithMediaType> removed = null;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event.getSprintId(), event.getAssignedToId())) {
+                subscriber.offer(message);
+            } else if (event.getType() == TaskEventDTO.Type.UPDATED
+                    && subscriber.matches(event.getPreviousSprintId(), event.getPreviousAssignedToId())) {
+                // The task moved out of this subscriber's filter; tell it to drop the task
+                if (removed == null) {
+                    removed = serialize(event.asRemoved());
+                    if (removed == null) {
+                        continue;
+                    }
+                }
+                subscriber.offer(removed);
+            }
+        }
+    }
+
+    private Set<DataWithMediaType> serialize(TaskEventDTO event) {
+        try {
+            return SseEmitter.event()
+                    .id(event.getTaskId().toString())
+                    .name(event.getType().name().toLowerCase())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize task event for {}", event.getTaskId(), e);
+            return null;
+        }
+    }
+
+    // Comment lines keep proxies from closing idle connections and surface dead clients
+    @Scheduled(fixedRateString = "${tasks.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfIdle(ping);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final UUID sprintId;
+        private final UUID assignedToId;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, UUID sprintId, UUID assignedToId) {
+            this.emitter = emitter;
+            this.sprintId = sprintId;
+            this.assignedToId = assignedToId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean matches(UUID taskSprintId, UUID taskAssignedToId) {
+            return (sprintId == null || sprintId.equals(taskSprintId))
+                    && (assignedToId == null || assignedToId.equals(taskAssignedToId));
+        }
+
+        private void offer(Set<DataWithMediaType> message) {
+            // A full buffer means the client is not keeping up; drop and tell it to resync later
+            if (!queue.offer(message)) {
+                dropped.incrementAndGet();
+            }
+            scheduleDrain();
+        }
+
+        private void offerIfIdle(Set<DataWithMediaType> message) {
+            if (queue.isEmpty()) {
+                offer(message);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (closed || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                int lost = dropped.getAndSet(0);
+                if (lost > 0) {
+                    emitter.send(SseEmitter.event().name("overflow").data(lost));
+                }
+                Set<DataWithMediaType> message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping task stream subscriber: {}", e.getMessage());
+                closed = true;
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+
+            // Messages offered while the flag was still set would otherwise wait for the next event
+            if (!queue.isEmpty() || dropped.get() > 0) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -1,53 +1,280 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.BulkTaskResultDTO;
+import com.taskmanagement.dto.SprintStatusStatsDTO;
+import com.taskmanagement.dto.TaskChangesDTO;
 import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskEventDTO;
+import com.taskmanagement.dto.TaskPatchDTO;
+import com.taskmanagement.dto.TaskPageDTO;
+import com.taskmanagement.exception.BadRequest;
+import com.taskmanagement.exception.Conflict;
+import com.taskmanagement.exception.Gone;
 import com.taskmanagement.exception.ResourceNotFound;
 import com.taskmanagement.model.*;
 import com.taskmanagement.repository.*;
+import jakarta.validation.ConstraintViolation;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_SIZE = 1000;
+
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final EpicRepository epicRepository;
     private final SprintRepository sprintRepository;
-    private final TaskStatusRepository statusRepository;
-    private final TaskPriorityRepository priorityRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final ReferenceDataCache referenceData;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean fullTextSearch;
+    private final boolean changeHorizon;
 
     public TaskService(
             TaskRepository taskRepository,
             UserRepository userRepository,
             EpicRepository epicRepository,
             SprintRepository sprintRepository,
-            TaskStatusRepository statusRepository,
-            TaskPriorityRepository priorityRepository) {
+            TaskTombstoneRepository taskTombstoneRepository,
+            ReferenceDataCache referenceData,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${tasks.search.full-text:true}") boolean fullTextSearch,
+            @Value("${tasks.changes.commit-horizon:true}") boolean changeHorizon) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.epicRepository = epicRepository;
         this.sprintRepository = sprintRepository;
-        this.statusRepository = statusRepository;
-        this.priorityRepository = priorityRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.referenceData = referenceData;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.fullTextSearch = fullTextSearch;
+        this.changeHorizon = changeHorizon;
     }
 
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasks(UUID userId) {
+    public TaskPageDTO getTasks(String cursor, Integer limit, UUID userId) {
         // In a real app, you might want to filter by user permissions
-        return taskRepository.findAll().stream()
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to learn whether another page follows without a count query
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<TaskView> tasks;
+        if (cursor == null || cursor.isEmpty()) {
+            tasks = taskRepository.findFirstPage(pageable);
+        } else {
+            TaskCursor position = TaskCursor.decode(cursor);
+            tasks = taskRepository.findPageAfter(position.getTimestamp(), position.getId(), pageable);
+        }
+
+        String next = null;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+            next = TaskCursor.encode(tasks.get(pageSize - 1));
+        }
+
+        List<TaskDTO> page = tasks.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        return new TaskPageDTO(page, next);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChanges(String since, Integer limit, UUID userId) {
+        int pageSize = limit == null ? MAX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Instant now = Instant.now();
+
+        long after = 0;
+        Instant issuedAt = now;
+        if (since != null && !since.isEmpty()) {
+            ChangeWatermark position = ChangeWatermark.decode(since);
+            if (position.getIssuedAt().isBefore(now.minus(TOMBSTONE_RETENTION))) {
+                throw new Gone("Watermark predates the retained deletions; reload all tasks");
+            }
+            after = position.getSequence();
+            issuedAt = position.getIssuedAt();
+        }
+
+        // Sequence values are drawn inside the writing transactions, so a later value can commit first;
+        // stopping at the horizon keeps the watermark behind every change that is still in flight
+        long horizon = changeHorizon ? taskRepository.findChangeHorizon() : Long.MAX_VALUE;
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<TaskView> upserts = taskRepository.findChangesAfter(after, horizon, pageable);
+        List<TaskTombstone> deletions = taskTombstoneRepository.findChangesAfter(after, horizon, pageable);
+
+        // Merge both streams in sequence order so the watermark never skips a change
+        List<TaskDTO> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        long last = after;
+        int u = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < pageSize && (u < upserts.size() || d < deletions.size())) {
+            boolean nextIsUpsert = d == deletions.size() || (u < upserts.size()
+                    && upserts.get(u).getChangeSeq() < deletions.get(d).getChangeSeq());
+            if (nextIsUpsert) {
+                TaskView task = upserts.get(u++);
+                changed.add(convertToDTO(task));
+                last = task.getChangeSeq();
+            } else {
+                TaskTombstone tombstone = deletions.get(d++);
+                deleted.add(tombstone.getTaskId());
+                last = tombstone.getChangeSeq();
+            }
+        }
+
+        boolean more = u < upserts.size() || d < deletions.size();
+        if (!more) {
+            // Everything up to the horizon has been returned, so the client is complete as of now
+            if (changeHorizon) {
+                last = Math.max(last, horizon);
+            }
+            issuedAt = now;
+        }
+        return new TaskChangesDTO(changed, deleted, ChangeWatermark.encode(last, issuedAt), more);
+    }
+
+    @Scheduled(cron = "${tasks.changes.tombstone-purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        taskTombstoneRepository.deleteOlderThan(ZonedDateTime.now().minus(TOMBSTONE_RETENTION));
+    }
+
+    // Version tags are read with a single-column query so unchanged resources never load the entity graph
+    @Transactional(readOnly = true)
+    public String getTaskVersion(UUID id) {
+        ZonedDateTime updatedAt = taskRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + id));
+        return versionOf(updatedAt);
+    }
+
+    // Tags a page from its own rows: the position and size that selected it, each task's id and
+    // optimistic-lock version, and the next cursor. Any insert, update or delete within the page changes it,
+    // and different pages never share a tag.
+    public String getPageVersion(String cursor, Integer limit, TaskPageDTO page) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        StringBuilder key = new StringBuilder()
+                .append(cursor == null ? "" : cursor).append('|')
+                .append(pageSize).append('|')
+                .append(page.getNext() == null ? "" : page.getNext());
+        for (TaskDTO task : page.getTasks()) {
+            key.append('|').append(task.getId()).append(':').append(task.getVersion());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO searchTasks(String query, String cursor, Integer limit, UUID userId) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequest("Search query is required");
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int offset = decodeOffset(cursor);
+
+        // Ranked results page by offset; one extra id tells whether another page follows
+        List<UUID> ids;
+        if (fullTextSearch) {
+            ids = taskRepository.searchIdsFullText(query, pageSize + 1, offset);
+        } else {
+            // Pageable cannot express an arbitrary offset; the fallback only backs small test databases
+            List<UUID> matches = taskRepository.searchIdsLike(query, PageRequest.of(0, offset + pageSize + 1));
+            ids = matches.subList(Math.min(offset, matches.size()), matches.size());
+        }
+
+        String next = null;
+        if (ids.size() > pageSize) {
+            ids = ids.subList(0, pageSize);
+            next = String.valueOf(offset + pageSize);
+        }
+
+        Map<UUID, TaskView> views = taskRepository.findViewsByIds(ids).stream()
+                .collect(Collectors.toMap(TaskView::getId, Function.identity()));
+        List<TaskDTO> page = ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        return new TaskPageDTO(page, next);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<TaskDTO> sink, UUID userId) {
+        // Projected rows are never managed, so nothing accumulates in the persistence context
+        try (Stream<TaskView> tasks = taskRepository.streamAll()) {
+            tasks.map(this::convertToDTO).forEach(sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SprintStatusStatsDTO> getSprintStats(UUID sprintId, UUID userId) {
+        List<SprintStatusStatsDTO> totals = taskRepository.sumBySprintGroupedByStatus(sprintId);
+
+        // Only an empty result needs a second query to tell an empty sprint from a missing one
+        if (totals.isEmpty() && !sprintRepository.existsById(sprintId)) {
+            throw new ResourceNotFound("Sprint not found with id: " + sprintId);
+        }
+
+        Map<UUID, SprintStatusStatsDTO> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : referenceData.findAllStatuses()) {
+            SprintStatusStatsDTO empty = new SprintStatusStatsDTO(status.getId(), 0L, 0L, 0L);
+            byStatus.put(status.getId(), empty);
+        }
+        for (SprintStatusStatsDTO total : totals) {
+            byStatus.put(total.getStatusId(), total);
+        }
+        for (SprintStatusStatsDTO stats : byStatus.values()) {
+            referenceData.findStatusById(stats.getStatusId())
+                    .ifPresent(status -> stats.setStatusName(status.getName()));
+        }
+
+        return new ArrayList<>(byStatus.values());
     }
 
     @Transactional(readOnly = true)
     public TaskDTO getTaskById(UUID id, UUID userId) {
-        Task task = taskRepository.findById(id)
+        TaskView task = taskRepository.findViewById(id)
                 .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + id));
 
         return convertToDTO(task);
@@ -61,10 +288,10 @@ public class TaskService {
         User assignee = userRepository.findById(taskDTO.getAssignedToId())
                 .orElseThrow(() -> new ResourceNotFound("Assigned user not found with id: " + taskDTO.getAssignedToId()));
 
-        TaskStatus status = statusRepository.findById(taskDTO.getStatusId())
+        TaskStatus status = referenceData.findStatusById(taskDTO.getStatusId())
                 .orElseThrow(() -> new ResourceNotFound("Status not found with id: " + taskDTO.getStatusId()));
 
-        TaskPriority priority = priorityRepository.findById(taskDTO.getPriorityId())
+        TaskPriority priority = referenceData.findPriorityById(taskDTO.getPriorityId())
                 .orElseThrow(() -> new ResourceNotFound("Priority not found with id: " + taskDTO.getPriorityId()));
 
         Task task = new Task();
@@ -97,21 +324,113 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
-        return convertToDTO(savedTask);
+        TaskDTO created = convertToDTO(savedTask);
+        eventPublisher.publishEvent(TaskEventDTO.of(TaskEventDTO.Type.CREATED, created));
+        return created;
+    }
+
+    @Transactional
+    public List<BulkTaskResultDTO> createTasks(List<TaskDTO> taskDTOs, UUID creatorId) {
+        if (taskDTOs.size() > MAX_BULK_SIZE) {
+            throw new BadRequest("At most " + MAX_BULK_SIZE + " tasks can be created per request");
+        }
+
+        User creator = userRepository.findById(creatorId)
+                .orElseThrow(() -> new ResourceNotFound("User not found with id: " + creatorId));
+
+        // Resolve every referenced row with one IN (...) query per type instead of lookups per item
+        Map<UUID, User> assignees = userRepository.findAllById(collectIds(taskDTOs, TaskDTO::getAssignedToId)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<UUID, Epic> epics = epicRepository.findAllById(collectIds(taskDTOs, TaskDTO::getEpicId)).stream()
+                .collect(Collectors.toMap(Epic::getId, Function.identity()));
+        Map<UUID, Sprint> sprints = sprintRepository.findAllById(collectIds(taskDTOs, TaskDTO::getSprintId)).stream()
+                .collect(Collectors.toMap(Sprint::getId, Function.identity()));
+
+        List<BulkTaskResultDTO> results = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO taskDTO = taskDTOs.get(i);
+
+            Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+            if (!violations.isEmpty()) {
+                results.add(BulkTaskResultDTO.failed(i, violations.iterator().next().getMessage()));
+                continue;
+            }
+
+            User assignee = assignees.get(taskDTO.getAssignedToId());
+            Optional<TaskStatus> status = referenceData.findStatusById(taskDTO.getStatusId());
+            Optional<TaskPriority> priority = referenceData.findPriorityById(taskDTO.getPriorityId());
+            Epic epic = taskDTO.getEpicId() != null ? epics.get(taskDTO.getEpicId()) : null;
+            Sprint sprint = taskDTO.getSprintId() != null ? sprints.get(taskDTO.getSprintId()) : null;
+
+            String error = null;
+            if (assignee == null) {
+                error = "Assigned user not found with id: " + taskDTO.getAssignedToId();
+            } else if (status.isEmpty()) {
+                error = "Status not found with id: " + taskDTO.getStatusId();
+            } else if (priority.isEmpty()) {
+                error = "Priority not found with id: " + taskDTO.getPriorityId();
+            } else if (taskDTO.getEpicId() != null && epic == null) {
+                error = "Epic not found with id: " + taskDTO.getEpicId();
+            } else if (taskDTO.getSprintId() != null && sprint == null) {
+                error = "Sprint not found with id: " + taskDTO.getSprintId();
+            }
+            if (error != null) {
+                results.add(BulkTaskResultDTO.failed(i, error));
+                continue;
+            }
+
+            Task task = new Task();
+            task.setCreatedBy(creator);
+            task.setAssignedTo(assignee);
+            task.setStatus(status.get());
+            task.setPriority(priority.get());
+            task.setTitle(taskDTO.getTitle());
+            task.setDescription(taskDTO.getDescription());
+            task.setStoryPoints(taskDTO.getStoryPoints());
+            task.setEstimatedHours(taskDTO.getEstimatedHours());
+            task.setDueDate(taskDTO.getDueDate());
+            task.setEpic(epic);
+            task.setSprint(sprint);
+
+            if (status.get().getName().equals("DONE")) {
+                task.setCompletedAt(ZonedDateTime.now());
+            }
+
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        // Inserts are grouped into JDBC batches (hibernate.jdbc.batch_size) when flushed
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+
+        for (int i = 0; i < savedTasks.size(); i++) {
+            TaskDTO created = convertToDTO(savedTasks.get(i));
+            eventPublisher.publishEvent(TaskEventDTO.of(TaskEventDTO.Type.CREATED, created));
+            results.add(BulkTaskResultDTO.created(taskIndexes.get(i), created));
+        }
+        results.sort(Comparator.comparingInt(BulkTaskResultDTO::getIndex));
+        return results;
     }
 
     @Transactional
     public TaskDTO updateTask(TaskDTO taskDTO, UUID updaterId) {
         Task existingTask = taskRepository.findById(taskDTO.getId())
                 .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + taskDTO.getId()));
+        checkVersion(existingTask, taskDTO.getVersion());
+        UUID previousSprintId = existingTask.getSprint() != null ? existingTask.getSprint().getId() : null;
+        UUID previousAssignedToId = existingTask.getAssignedTo().getId();
 
         User assignee = userRepository.findById(taskDTO.getAssignedToId())
                 .orElseThrow(() -> new ResourceNotFound("Assigned user not found with id: " + taskDTO.getAssignedToId()));
 
-        TaskStatus status = statusRepository.findById(taskDTO.getStatusId())
+        TaskStatus status = referenceData.findStatusById(taskDTO.getStatusId())
                 .orElseThrow(() -> new ResourceNotFound("Status not found with id: " + taskDTO.getStatusId()));
 
-        TaskPriority priority = priorityRepository.findById(taskDTO.getPriorityId())
+        TaskPriority priority = referenceData.findPriorityById(taskDTO.getPriorityId())
                 .orElseThrow(() -> new ResourceNotFound("Priority not found with id: " + taskDTO.getPriorityId()));
 
         existingTask.setAssignedTo(assignee);
@@ -140,27 +459,142 @@ public class TaskService {
             existingTask.setSprint(null);
         }
 
-        // Check if task is being marked as completed
-        if (status.getName().equals("DONE") && existingTask.getCompletedAt() == null) {
-            existingTask.setCompletedAt(ZonedDateTime.now());
-        } else if (!status.getName().equals("DONE")) {
-            existingTask.setCompletedAt(null);
+        updateCompletion(existingTask, status);
+
+        Task updatedTask = saveChecked(existingTask);
+        TaskDTO updated = convertToDTO(updatedTask);
+        eventPublisher.publishEvent(TaskEventDTO.updated(updated, previousSprintId, previousAssignedToId));
+        return updated;
+    }
+
+    @Transactional
+    public TaskDTO patchTask(UUID id, TaskPatchDTO patch, UUID updaterId) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + id));
+        checkVersion(task, patch.getVersion());
+        UUID previousSprintId = task.getSprint() != null ? task.getSprint().getId() : null;
+        UUID previousAssignedToId = task.getAssignedTo().getId();
+
+        if (patch.getTitle() != null) {
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.getStoryPoints() != null) {
+            task.setStoryPoints(patch.getStoryPoints());
+        }
+        if (patch.getEstimatedHours() != null) {
+            task.setEstimatedHours(patch.getEstimatedHours());
+        }
+        if (patch.getDueDate() != null) {
+            task.setDueDate(patch.getDueDate());
         }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        return convertToDTO(updatedTask);
+        // References are only resolved when they actually change; lazy proxies expose their ids for free
+        if (patch.getAssignedToId() != null && !patch.getAssignedToId().equals(task.getAssignedTo().getId())) {
+            task.setAssignedTo(userRepository.findById(patch.getAssignedToId())
+                    .orElseThrow(() -> new ResourceNotFound("Assigned user not found with id: " + patch.getAssignedToId())));
+        }
+        if (patch.getStatusId() != null && !patch.getStatusId().equals(task.getStatus().getId())) {
+            TaskStatus status = referenceData.findStatusById(patch.getStatusId())
+                    .orElseThrow(() -> new ResourceNotFound("Status not found with id: " + patch.getStatusId()));
+            task.setStatus(status);
+            updateCompletion(task, status);
+        }
+        if (patch.getPriorityId() != null && !patch.getPriorityId().equals(task.getPriority().getId())) {
+            task.setPriority(referenceData.findPriorityById(patch.getPriorityId())
+                    .orElseThrow(() -> new ResourceNotFound("Priority not found with id: " + patch.getPriorityId())));
+        }
+        if (patch.hasEpicId() && !Objects.equals(patch.getEpicId(), task.getEpic() != null ? task.getEpic().getId() : null)) {
+            task.setEpic(patch.getEpicId() == null ? null : epicRepository.findById(patch.getEpicId())
+                    .orElseThrow(() -> new ResourceNotFound("Epic not found with id: " + patch.getEpicId())));
+        }
+        if (patch.hasSprintId() && !Objects.equals(patch.getSprintId(), task.getSprint() != null ? task.getSprint().getId() : null)) {
+            task.setSprint(patch.getSprintId() == null ? null : sprintRepository.findById(patch.getSprintId())
+                    .orElseThrow(() -> new ResourceNotFound("Sprint not found with id: " + patch.getSprintId())));
+        }
+
+        saveChecked(task);
+
+        // Reading back through the projection avoids initializing each lazy association separately
+        TaskDTO updated = taskRepository.findViewById(id)
+                .map(this::convertToDTO)
+                .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + id));
+        eventPublisher.publishEvent(TaskEventDTO.updated(updated, previousSprintId, previousAssignedToId));
+        return updated;
     }
 
     @Transactional
     public void deleteTask(UUID id, UUID deleterId) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFound("Task not found with id: " + id);
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFound("Task not found with id: " + id));
+
+        // Association ids come from the lazy proxies without loading the sprint or user
+        UUID sprintId = task.getSprint() != null ? task.getSprint().getId() : null;
+        UUID assignedToId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+
+        taskRepository.delete(task);
+        taskTombstoneRepository.save(new TaskTombstone(id, ZonedDateTime.now()));
+        eventPublisher.publishEvent(new TaskEventDTO(TaskEventDTO.Type.DELETED, id, sprintId, assignedToId, null));
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != task.getVersion()) {
+            throw new Conflict("Task " + task.getId() + " was modified by someone else (version "
+                    + task.getVersion() + ", expected " + expectedVersion + ")");
+        }
+    }
+
+    private static void updateCompletion(Task task, TaskStatus status) {
+        // Check if task is being marked as completed
+        if (status.getName().equals("DONE") && task.getCompletedAt() == null) {
+            task.setCompletedAt(ZonedDateTime.now());
+        } else if (!status.getName().equals("DONE")) {
+            task.setCompletedAt(null);
         }
+    }
 
-        taskRepository.deleteById(id);
+    // Flushing here turns a concurrent write into a 409 instead of a failure at commit
+    private Task saveChecked(Task task) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            throw new Conflict("Task " + task.getId() + " was modified concurrently, please retry");
+        }
     }
 
-    private TaskDTO convertToDTO(Task task) {
+    private static String versionOf(ZonedDateTime timestamp) {
+        if (timestamp == null) {
+            return "0";
+        }
+        Instant instant = timestamp.toInstant();
+        return Long.toHexString(instant.getEpochSecond()) + "." + Integer.toHexString(instant.getNano());
+    }
+
+    private static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset >= 0) {
+                return offset;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new BadRequest("Invalid cursor: " + cursor);
+    }
+
+    private static Set<UUID> collectIds(List<TaskDTO> taskDTOs, Function<TaskDTO, UUID> id) {
+        return taskDTOs.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    TaskDTO convertToDTO(Task task) {
         TaskDTO dto = new TaskDTO();
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
@@ -169,6 +603,7 @@ public class TaskService {
         dto.setEstimatedHours(task.getEstimatedHours());
         dto.setDueDate(task.getDueDate());
         dto.setCompletedAt(task.getCompletedAt());
+        dto.setVersion(task.getVersion());
 
         dto.setCreatedById(task.getCreatedBy().getId());
         dto.setAssignedToId(task.getAssignedTo().getId());
@@ -192,4 +627,34 @@ public class TaskService {
 
         return dto;
     }
-}
\ No newline at end of file
+
+    TaskDTO convertToDTO(TaskView task) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setStoryPoints(task.getStoryPoints());
+        dto.setEstimatedHours(task.getEstimatedHours());
+        dto.setDueDate(task.getDueDate());
+        dto.setCompletedAt(task.getCompletedAt());
+        dto.setVersion(task.getVersion());
+
+        dto.setCreatedById(task.getCreatedById());
+        dto.setAssignedToId(task.getAssignedToId());
+        dto.setAssignedToName(task.getAssignedToName());
+
+        dto.setStatusId(task.getStatusId());
+        dto.setStatusName(task.getStatusName());
+
+        dto.setPriorityId(task.getPriorityId());
+        dto.setPriorityName(task.getPriorityName());
+
+        dto.setEpicId(task.getEpicId());
+        dto.setEpicName(task.getEpicName());
+
+        dto.setSprintId(task.getSprintId());
+        dto.setSprintName(task.getSprintName());
+
+        return dto;
+    }
+}
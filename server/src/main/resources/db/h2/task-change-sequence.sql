@@ -0,0 +1,8 @@
+-- H2 counterpart of the change sequence in V7__Add_task_change_sequence.sql, run by the test profile after
+-- Hibernate creates the schema. Column defaults and ON UPDATE take the place of the trigger; there is no
+-- commit horizon, so tasks.changes.commit-horizon is off wherever this is used.
+CREATE SEQUENCE IF NOT EXISTS task_change_seq;
+
+ALTER TABLE tasks ALTER COLUMN change_seq SET DEFAULT NEXT VALUE FOR task_change_seq;
+ALTER TABLE tasks ALTER COLUMN change_seq SET ON UPDATE NEXT VALUE FOR task_change_seq;
+ALTER TABLE task_tombstones ALTER COLUMN change_seq SET DEFAULT NEXT VALUE FOR task_change_seq;
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of tasks ordered by (created_at, id)
+CREATE INDEX idx_tasks_created_at_id ON tasks(created_at, id);
@@ -0,0 +1,10 @@
+-- Supports delta sync of tasks ordered by (updated_at, id)
+CREATE INDEX idx_tasks_updated_at_id ON tasks(updated_at, id);
+
+-- Deleted task ids kept for a retention period so sync clients can drop their local copies
+CREATE TABLE task_tombstones (
+    task_id UUID PRIMARY KEY,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at_task_id ON task_tombstones(deleted_at, task_id);
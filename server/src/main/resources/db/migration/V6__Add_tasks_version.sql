@@ -0,0 +1,2 @@
+-- Optimistic locking counter for concurrent task edits
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
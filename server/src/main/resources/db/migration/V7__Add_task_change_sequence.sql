@@ -0,0 +1,71 @@
+-- Commit-ordered change sequence for delta sync. Every task insert or update and every tombstone draws the
+-- next value from one sequence inside the writing transaction, and readers only page up to
+-- task_change_horizon(), below which every transaction that drew a value has finished. A long transaction
+-- therefore holds the feed back instead of committing changes behind a watermark already handed out.
+CREATE SEQUENCE task_change_seq;
+
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT;
+ALTER TABLE task_tombstones ADD COLUMN change_seq BIGINT;
+
+-- Number existing rows in their previous (timestamp, id) order without touching updated_at
+ALTER TABLE tasks DISABLE TRIGGER update_task_updated_at;
+UPDATE tasks t SET change_seq = o.seq
+FROM (SELECT id, nextval('task_change_seq') AS seq
+      FROM (SELECT id FROM tasks ORDER BY updated_at, id) ordered) o
+WHERE t.id = o.id;
+ALTER TABLE tasks ENABLE TRIGGER update_task_updated_at;
+
+UPDATE task_tombstones d SET change_seq = o.seq
+FROM (SELECT task_id, nextval('task_change_seq') AS seq
+      FROM (SELECT task_id FROM task_tombstones ORDER BY deleted_at, task_id) ordered) o
+WHERE d.task_id = o.task_id;
+
+ALTER TABLE tasks ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE task_tombstones ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE UNIQUE INDEX idx_tasks_change_seq ON tasks(change_seq);
+CREATE UNIQUE INDEX idx_task_tombstones_change_seq ON task_tombstones(change_seq);
+
+-- Delta sync no longer reads by timestamp; the purge still filters tombstones by deleted_at
+DROP INDEX idx_tasks_updated_at_id;
+
+-- Advisory lock keys carrying a transaction's sequence floor: 'TS' in the top 16 bits, the floor below
+CREATE OR REPLACE FUNCTION assign_task_change_seq()
+RETURNS TRIGGER AS $$
+DECLARE
+    floor_value BIGINT;
+BEGIN
+    -- Once per transaction, before drawing a value, hold a shared lock naming the lowest value it can draw
+    IF coalesce(current_setting('taskmanagement.change_floor', true), '') = '' THEN
+        SELECT CASE WHEN is_called THEN last_value + 1 ELSE last_value END INTO floor_value FROM task_change_seq;
+        PERFORM pg_advisory_xact_lock_shared((x'5453'::bigint << 48) | floor_value);
+        PERFORM set_config('taskmanagement.change_floor', floor_value::text, true);
+    END IF;
+    NEW.change_seq = nextval('task_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER assign_task_change_seq BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION assign_task_change_seq();
+CREATE TRIGGER assign_task_tombstone_change_seq BEFORE INSERT ON task_tombstones
+    FOR EACH ROW EXECUTE FUNCTION assign_task_change_seq();
+
+-- Highest sequence value at or below which every writing transaction has committed or rolled back.
+-- The sequence is read before the locks: a writer that drew a value before that read already held its lock.
+CREATE OR REPLACE FUNCTION task_change_horizon()
+RETURNS BIGINT AS $$
+DECLARE
+    issued BIGINT;
+    pending_floor BIGINT;
+BEGIN
+    SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END INTO issued FROM task_change_seq;
+    SELECT min(((classid::bigint & 65535) << 32) | objid::bigint) INTO pending_floor
+    FROM pg_locks
+    WHERE locktype = 'advisory'
+      AND objsubid = 1
+      AND classid::bigint >> 16 = x'5453'::bigint
+      AND database = (SELECT oid FROM pg_database WHERE datname = current_database());
+    RETURN least(issued, pending_floor - 1);
+END;
+$$ LANGUAGE plpgsql VOLATILE;
@@ -0,0 +1,75 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.model.Role;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.RoleRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.JWTTokenProvider;
+import com.taskmanagement.service.TaskEventBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The stream ends on an async dispatch, which carries no JWT; it has to complete cleanly, not as a 403
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "tasks.stream.timeout-ms=500")
+@ActiveProfiles("test")
+class TaskStreamTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JWTTokenProvider tokenProvider;
+
+    @Autowired
+    private TaskEventBroadcaster broadcaster;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void streamCompletesWhenTheEmitterTimesOut() throws Exception {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("DEVELOPER-" + UUID.randomUUID());
+        role.setDescription("Developer");
+        roleRepository.save(role);
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(role);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Developer");
+        user.setGoogleId(UUID.randomUUID().toString());
+        userRepository.save(user);
+
+        String token = tokenProvider.createToken(user.getId(), user.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_DEVELOPER")));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/stream"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("", response.body());
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.metrics;
+
+import java.util.function.Supplier;
+
+// Test helper over StatementCounter: runs work under a fresh count and fails unless exactly the expected
+// number of statements ran, e.g. StatementAssertions.expect(1, () -> taskService.getTaskById(id, userId))
+public final class StatementAssertions {
+
+    private StatementAssertions() {
+    }
+
+    public static <T> T expect(int expected, Supplier<T> work) {
+        StatementCounter.start();
+        T result;
+        StatementCounter.Counts counts;
+        try {
+            result = work.get();
+        } finally {
+            counts = StatementCounter.stop();
+        }
+        if (counts.getStatements() != expected) {
+            throw new AssertionError("Expected " + expected + " statements but " + counts.getStatements()
+                    + " were executed: " + counts.getExecutions().keySet());
+        }
+        return result;
+    }
+
+    public static void expect(int expected, Runnable work) {
+        expect(expected, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
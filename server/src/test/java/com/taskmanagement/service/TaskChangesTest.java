@@ -0,0 +1,147 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskChangesDTO;
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskPatchDTO;
+import com.taskmanagement.model.Role;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.RoleRepository;
+import com.taskmanagement.repository.TaskPriorityRepository;
+import com.taskmanagement.repository.TaskStatusRepository;
+import com.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The change feed on the test profile, where H2 assigns change_seq instead of the PostgreSQL trigger
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskChangesTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private TaskPriorityRepository priorityRepository;
+
+    private User user;
+    private TaskDTO template;
+
+    @BeforeEach
+    void createReferenceData() {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("DEVELOPER-" + UUID.randomUUID());
+        role.setDescription("Developer");
+        roleRepository.save(role);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(role);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Developer");
+        user.setGoogleId(UUID.randomUUID().toString());
+        userRepository.save(user);
+
+        TaskStatus status = new TaskStatus();
+        status.setId(UUID.randomUUID());
+        status.setName("TODO-" + UUID.randomUUID());
+        status.setDisplayOrder(1);
+        statusRepository.save(status);
+
+        TaskPriority priority = new TaskPriority();
+        priority.setId(UUID.randomUUID());
+        priority.setName("LOW-" + UUID.randomUUID());
+        priority.setValue(1);
+        priorityRepository.save(priority);
+
+        template = new TaskDTO();
+        template.setDescription("Description");
+        template.setAssignedToId(user.getId());
+        template.setStatusId(status.getId());
+        template.setPriorityId(priority.getId());
+        template.setDueDate(ZonedDateTime.now().plusDays(1));
+    }
+
+    @Test
+    void feedCarriesCreatesUpdatesAndDeletes() {
+        // Other tests share the database, so start from wherever the feed currently ends
+        String watermark = drain(null);
+
+        TaskDTO first = create("First");
+        TaskDTO second = create("Second");
+        TaskChangesDTO created = taskService.getChanges(watermark, null, user.getId());
+        assertEquals(List.of(first.getId(), second.getId()), ids(created));
+        assertTrue(created.getDeleted().isEmpty());
+        assertFalse(created.isMore());
+
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle("First, renamed");
+        taskService.patchTask(first.getId(), patch, user.getId());
+        TaskChangesDTO updated = taskService.getChanges(created.getWatermark(), null, user.getId());
+        assertEquals(List.of(first.getId()), ids(updated));
+        assertEquals("First, renamed", updated.getUpserts().get(0).getTitle());
+
+        taskService.deleteTask(second.getId(), user.getId());
+        TaskChangesDTO deleted = taskService.getChanges(updated.getWatermark(), null, user.getId());
+        assertTrue(deleted.getUpserts().isEmpty());
+        assertEquals(List.of(second.getId()), deleted.getDeleted());
+
+        assertTrue(ids(taskService.getChanges(deleted.getWatermark(), null, user.getId())).isEmpty());
+    }
+
+    @Test
+    void feedPagesInChangeOrder() {
+        String watermark = drain(null);
+        TaskDTO first = create("First");
+        TaskDTO second = create("Second");
+        TaskDTO third = create("Third");
+
+        TaskChangesDTO page = taskService.getChanges(watermark, 2, user.getId());
+        assertEquals(List.of(first.getId(), second.getId()), ids(page));
+        assertTrue(page.isMore());
+
+        TaskChangesDTO rest = taskService.getChanges(page.getWatermark(), 2, user.getId());
+        assertEquals(List.of(third.getId()), ids(rest));
+        assertFalse(rest.isMore());
+    }
+
+    private TaskDTO create(String title) {
+        template.setTitle(title);
+        return taskService.createTask(template, user.getId());
+    }
+
+    private String drain(String watermark) {
+        TaskChangesDTO page;
+        do {
+            page = taskService.getChanges(watermark, null, user.getId());
+            watermark = page.getWatermark();
+        } while (page.isMore());
+        return watermark;
+    }
+
+    private static List<UUID> ids(TaskChangesDTO changes) {
+        return changes.getUpserts().stream().map(TaskDTO::getId).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskPageDTO;
+import com.taskmanagement.metrics.StatementCounter;
+import com.taskmanagement.model.Role;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.RoleRepository;
+import com.taskmanagement.repository.TaskPriorityRepository;
+import com.taskmanagement.repository.TaskStatusRepository;
+import com.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static com.taskmanagement.metrics.StatementAssertions.expect;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Task reads go through the TaskView projection, so their statement count must not grow with the page size
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskServiceStatementCountTest {
+
+    private static final int TASKS = 12;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository statusRepository;
+
+    @Autowired
+    private TaskPriorityRepository priorityRepository;
+
+    private User user;
+    private TaskDTO task;
+
+    @BeforeEach
+    void createTasks() {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("DEVELOPER-" + UUID.randomUUID());
+        role.setDescription("Developer");
+        roleRepository.save(role);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setRole(role);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setName("Developer");
+        user.setGoogleId(UUID.randomUUID().toString());
+        userRepository.save(user);
+
+        TaskStatus status = new TaskStatus();
+        status.setId(UUID.randomUUID());
+        status.setName("TODO-" + UUID.randomUUID());
+        status.setDisplayOrder(1);
+        statusRepository.save(status);
+
+        TaskPriority priority = new TaskPriority();
+        priority.setId(UUID.randomUUID());
+        priority.setName("LOW-" + UUID.randomUUID());
+        priority.setValue(1);
+        priorityRepository.save(priority);
+
+        for (int i = 0; i < TASKS; i++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setTitle("Task " + i);
+            dto.setDescription("Description " + i);
+            dto.setAssignedToId(user.getId());
+            dto.setStatusId(status.getId());
+            dto.setPriorityId(priority.getId());
+            dto.setDueDate(ZonedDateTime.now().plusDays(i));
+            task = taskService.createTask(dto, user.getId());
+        }
+    }
+
+    @Test
+    void getTaskByIdRunsOneStatement() {
+        TaskDTO found = expect(1, () -> taskService.getTaskById(task.getId(), user.getId()));
+
+        assertEquals(task.getId(), found.getId());
+        assertEquals(user.getName(), found.getAssignedToName());
+    }
+
+    @Test
+    void pageRunsOneStatementRegardlessOfSize() {
+        TaskPageDTO small = expect(1, () -> taskService.getTasks(null, 2, user.getId()));
+        assertEquals(2, small.getTasks().size());
+        assertNotNull(small.getNext());
+
+        TaskPageDTO next = expect(1, () -> taskService.getTasks(small.getNext(), 2, user.getId()));
+        assertEquals(2, next.getTasks().size());
+
+        // Other tests share the database, so the large page holds at least this test's tasks
+        TaskPageDTO large = expect(1, () -> taskService.getTasks(null, 100, user.getId()));
+        assertTrue(large.getTasks().size() >= TASKS);
+    }
+
+    @Test
+    void deleteInsertsTombstoneWithoutReadingIt() {
+        StatementCounter.start();
+        StatementCounter.Counts counts;
+        try {
+            taskService.deleteTask(task.getId(), user.getId());
+        } finally {
+            counts = StatementCounter.stop();
+        }
+
+        assertFalse(counts.getExecutions().keySet().stream()
+                        .anyMatch(sql -> sql.startsWith("select") && sql.contains("task_tombstones")),
+                () -> "Tombstone was read before insert: " + counts.getExecutions().keySet());
+    }
+}